@@ -0,0 +1,165 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package android.util;
+
+import java.util.Arrays;
+
+/**
+ * A plain JVM replacement of the Android {@code SparseArray}, whose actual implementation relies on the Dalvik/ART runtime
+ * in order to allocate its arrays. It takes precedence over the "android-all" class because it belongs to the benchmark sources.
+ *
+ * @param <E> the type of the values
+ * @since 2026.10.16
+ */
+public class SparseArray<E>
+    implements Cloneable
+{
+
+  private int[] keys;
+
+  private Object[] values;
+
+  private int size;
+
+  public SparseArray()
+  {
+    this(10);
+  }
+
+  public SparseArray(int initialCapacity)
+  {
+    keys = new int[Math.max(1, initialCapacity)];
+    values = new Object[keys.length];
+  }
+
+  public E get(int key)
+  {
+    return get(key, null);
+  }
+
+  @SuppressWarnings("unchecked")
+  public E get(int key, E valueIfKeyNotFound)
+  {
+    final int index = Arrays.binarySearch(keys, 0, size, key);
+    return index < 0 ? valueIfKeyNotFound : (E) values[index];
+  }
+
+  public void put(int key, E value)
+  {
+    int index = Arrays.binarySearch(keys, 0, size, key);
+    if (index >= 0)
+    {
+      values[index] = value;
+      return;
+    }
+
+    index = ~index;
+    if (size == keys.length)
+    {
+      keys = Arrays.copyOf(keys, size * 2);
+      values = Arrays.copyOf(values, size * 2);
+    }
+    System.arraycopy(keys, index, keys, index + 1, size - index);
+    System.arraycopy(values, index, values, index + 1, size - index);
+    keys[index] = key;
+    values[index] = value;
+    size++;
+  }
+
+  public void append(int key, E value)
+  {
+    put(key, value);
+  }
+
+  public void delete(int key)
+  {
+    final int index = Arrays.binarySearch(keys, 0, size, key);
+    if (index >= 0)
+    {
+      removeAt(index);
+    }
+  }
+
+  public void remove(int key)
+  {
+    delete(key);
+  }
+
+  public void removeAt(int index)
+  {
+    System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+    System.arraycopy(values, index + 1, values, index, size - index - 1);
+    values[--size] = null;
+  }
+
+  public int size()
+  {
+    return size;
+  }
+
+  public int keyAt(int index)
+  {
+    return keys[index];
+  }
+
+  @SuppressWarnings("unchecked")
+  public E valueAt(int index)
+  {
+    return (E) values[index];
+  }
+
+  public void setValueAt(int index, E value)
+  {
+    values[index] = value;
+  }
+
+  public int indexOfKey(int key)
+  {
+    final int index = Arrays.binarySearch(keys, 0, size, key);
+    return index < 0 ? -1 : index;
+  }
+
+  public void clear()
+  {
+    Arrays.fill(values, 0, size, null);
+    size = 0;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public SparseArray<E> clone()
+  {
+    try
+    {
+      final SparseArray<E> clone = (SparseArray<E>) super.clone();
+      clone.keys = keys.clone();
+      clone.values = values.clone();
+      return clone;
+    }
+    catch (CloneNotSupportedException exception)
+    {
+      throw new AssertionError(exception);
+    }
+  }
+
+}
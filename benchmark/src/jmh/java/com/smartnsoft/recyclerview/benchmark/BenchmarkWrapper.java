@@ -0,0 +1,116 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import android.content.Context;
+import android.view.View;
+
+import com.smartnsoft.recyclerview.wrapper.DiffUtilSmartRecyclerViewWrapper;
+import com.smartnsoft.recyclerview.wrapper.SmartRecyclerViewWrapper;
+
+/**
+ * A wrapper whose identifier and content hash are given explicitly, and which never creates any view.
+ *
+ * @since 2026.10.16
+ */
+public final class BenchmarkWrapper
+    extends DiffUtilSmartRecyclerViewWrapper<String>
+{
+
+  /**
+   * Creates {@code count} wrappers with distinct identifiers, starting at {@code firstId}.
+   */
+  public static List<SmartRecyclerViewWrapper<?>> create(long firstId, int count)
+  {
+    final List<SmartRecyclerViewWrapper<?>> wrappers = new ArrayList<>(count);
+    for (int index = 0; index < count; index++)
+    {
+      wrappers.add(new BenchmarkWrapper(firstId + index));
+    }
+
+    return wrappers;
+  }
+
+  /**
+   * Creates a page of {@code count} wrappers where {@code duplicateRatio} of them have the identifier of a wrapper among the
+   * {@code existingCount} existing ones, the other identifiers being new.
+   */
+  public static List<SmartRecyclerViewWrapper<?>> createPage(int existingCount, int count, float duplicateRatio,
+      Random random)
+  {
+    final List<SmartRecyclerViewWrapper<?>> wrappers = new ArrayList<>(count);
+    for (int index = 0; index < count; index++)
+    {
+      if (random.nextFloat() < duplicateRatio)
+      {
+        wrappers.add(new BenchmarkWrapper(random.nextInt(existingCount)));
+      }
+      else
+      {
+        wrappers.add(new BenchmarkWrapper(existingCount + index));
+      }
+    }
+
+    return wrappers;
+  }
+
+  private final long id;
+
+  private final long diffUtilHashCode;
+
+  public BenchmarkWrapper(long id)
+  {
+    this(id, 0);
+  }
+
+  public BenchmarkWrapper(long id, long diffUtilHashCode)
+  {
+    super("item-" + id, 0, 0);
+
+    this.id = id;
+    this.diffUtilHashCode = diffUtilHashCode;
+  }
+
+  @Override
+  public long getId()
+  {
+    return id;
+  }
+
+  @Override
+  public long getDiffUtilHashCode()
+  {
+    return diffUtilHashCode;
+  }
+
+  @Override
+  protected Object extractNewViewAttributes(Context context, View view, String businessObject)
+  {
+    return null;
+  }
+
+}
@@ -0,0 +1,88 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.benchmark;
+
+import android.support.v7.widget.RecyclerView;
+import android.support.v7.widget.RecyclerView.AdapterDataObserver;
+
+/**
+ * Stands for the {@link RecyclerView} which would observe an adapter, so that the notifications of the benchmarked operations are actually
+ * dispatched. It only counts the notified items.
+ *
+ * @since 2026.10.16
+ */
+public final class CountingAdapterDataObserver
+    extends AdapterDataObserver
+{
+
+  public static CountingAdapterDataObserver observe(RecyclerView.Adapter<?> adapter)
+  {
+    final CountingAdapterDataObserver observer = new CountingAdapterDataObserver();
+    adapter.registerAdapterDataObserver(observer);
+    return observer;
+  }
+
+  private long notifiedItemCount;
+
+  public long getNotifiedItemCount()
+  {
+    return notifiedItemCount;
+  }
+
+  @Override
+  public void onChanged()
+  {
+    notifiedItemCount++;
+  }
+
+  @Override
+  public void onItemRangeChanged(int positionStart, int itemCount)
+  {
+    notifiedItemCount += itemCount;
+  }
+
+  @Override
+  public void onItemRangeChanged(int positionStart, int itemCount, Object payload)
+  {
+    notifiedItemCount += itemCount;
+  }
+
+  @Override
+  public void onItemRangeInserted(int positionStart, int itemCount)
+  {
+    notifiedItemCount += itemCount;
+  }
+
+  @Override
+  public void onItemRangeRemoved(int positionStart, int itemCount)
+  {
+    notifiedItemCount += itemCount;
+  }
+
+  @Override
+  public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount)
+  {
+    notifiedItemCount += itemCount;
+  }
+
+}
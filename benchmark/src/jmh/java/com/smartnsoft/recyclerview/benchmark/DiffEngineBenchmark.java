@@ -0,0 +1,138 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+package com.smartnsoft.recyclerview.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.smartnsoft.recyclerview.adapter.DiffUtilSmartRecyclerAdapter;
+import com.smartnsoft.recyclerview.adapter.KeyedDiffEngine;
+import com.smartnsoft.recyclerview.adapter.MyersDiffEngine;
+import com.smartnsoft.recyclerview.adapter.SmartDiffEngine;
+import com.smartnsoft.recyclerview.attributes.SmartRecyclerAttributes;
+import com.smartnsoft.recyclerview.wrapper.SmartRecyclerViewWrapper;
+
+/**
+ * Computes and dispatches the diff of a reshuffled list with each {@link SmartDiffEngine}, {@code shuffleRate} of the wrappers being moved
+ * to a random position, and 1% of them having a new content.
+ *
+ * @since 2026.10.16
+ */
+@State(Scope.Thread)
+public class DiffEngineBenchmark
+{
+
+  public enum Engine
+  {
+    MYERS, KEYED
+  }
+
+  private static final class BenchmarkDiffUtilAdapter
+      extends DiffUtilSmartRecyclerAdapter
+  {
+
+    BenchmarkDiffUtilAdapter()
+    {
+      super(null);
+    }
+
+    @Override
+    public boolean onBindViewHolderCustom(SmartRecyclerAttributes holder, int position, Object payload)
+    {
+      return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends SmartDiffUtilCallback> T getDiffUtilCallback(List<? extends SmartRecyclerViewWrapper<?>> oldWrappers,
+        List<? extends SmartRecyclerViewWrapper<?>> newWrappers)
+    {
+      return (T) new SmartDiffUtilCallback(oldWrappers, newWrappers)
+      {
+        @Override
+        protected Object getChangePayloadCustom(int oldItemPosition, int newItemPosition, Object oldBusinessObject,
+            Object newBusinessObject)
+        {
+          return null;
+        }
+      };
+    }
+
+  }
+
+  @Param({ "100", "1000", "10000", "100000" })
+  public int size;
+
+  @Param({ "0.01", "0.1", "0.5" })
+  public float shuffleRate;
+
+  @Param({ "MYERS", "KEYED" })
+  public Engine engine;
+
+  private List<SmartRecyclerViewWrapper<?>> oldWrappers;
+
+  private List<SmartRecyclerViewWrapper<?>> newWrappers;
+
+  private BenchmarkDiffUtilAdapter adapter;
+
+  @Setup(Level.Trial)
+  public void setUpTrial()
+  {
+    final Random random = new Random(42);
+    oldWrappers = BenchmarkWrapper.create(0, size);
+    newWrappers = new ArrayList<>(oldWrappers);
+    for (int index = 0; index < size * shuffleRate; index++)
+    {
+      newWrappers.add(random.nextInt(size), newWrappers.remove(random.nextInt(size)));
+    }
+    for (int index = 0; index < size / 100; index++)
+    {
+      final int position = random.nextInt(size);
+      newWrappers.set(position, new BenchmarkWrapper(newWrappers.get(position).getId(), 1));
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpInvocation()
+  {
+    adapter = new BenchmarkDiffUtilAdapter();
+    adapter.setDiffEngine(engine == Engine.KEYED ? new KeyedDiffEngine() : new MyersDiffEngine());
+    adapter.setWrappersForDiffUtil(oldWrappers);
+    CountingAdapterDataObserver.observe(adapter);
+  }
+
+  @Benchmark
+  public DiffUtilSmartRecyclerAdapter setWrappersForDiffUtil()
+  {
+    adapter.setWrappersForDiffUtil(newWrappers);
+    return adapter;
+  }
+
+}
@@ -0,0 +1,107 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.benchmark;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.smartnsoft.recyclerview.adapter.SmartRecyclerAdapter;
+import com.smartnsoft.recyclerview.adapter.SmartRecyclerAdapter.ComparisonType;
+
+/**
+ * Looks up {@link #LOOKUP_COUNT} identifiers in a populated adapter with {@link SmartRecyclerAdapter#contains(long, Class, Class, ComparisonType)}
+ * and {@link SmartRecyclerAdapter#getItemPosition(long, Class, Class, ComparisonType)}, {@code hitRatio} of them belonging to the adapter.
+ *
+ * @since 2026.10.16
+ */
+@State(Scope.Thread)
+public class LookupBenchmark
+{
+
+  private static final int LOOKUP_COUNT = 1000;
+
+  @Param({ "100", "1000", "10000", "100000" })
+  public int size;
+
+  @Param({ "0.1", "0.5", "1" })
+  public float hitRatio;
+
+  @Param({ "false", "true" })
+  public boolean idIndexEnabled;
+
+  @Param({ "CLASSIC", "BUSINESS_OBJECT_AND_WRAPPER_TYPE" })
+  public ComparisonType comparisonType;
+
+  private SmartRecyclerAdapter adapter;
+
+  private long[] ids;
+
+  @Setup(Level.Trial)
+  public void setUpTrial()
+  {
+    adapter = new SmartRecyclerAdapter(null, true);
+    adapter.setIdIndexEnabled(idIndexEnabled);
+    adapter.setWrappers(BenchmarkWrapper.create(0, size));
+
+    final Random random = new Random(42);
+    ids = new long[LOOKUP_COUNT];
+    for (int index = 0; index < LOOKUP_COUNT; index++)
+    {
+      ids[index] = random.nextFloat() < hitRatio ? random.nextInt(size) : size + index;
+    }
+  }
+
+  @Benchmark
+  public int contains()
+  {
+    int count = 0;
+    for (final long id : ids)
+    {
+      if (adapter.contains(id, String.class, BenchmarkWrapper.class, comparisonType))
+      {
+        count++;
+      }
+    }
+
+    return count;
+  }
+
+  @Benchmark
+  public int getItemPosition()
+  {
+    int sum = 0;
+    for (final long id : ids)
+    {
+      sum += adapter.getItemPosition(id, String.class, BenchmarkWrapper.class, comparisonType);
+    }
+
+    return sum;
+  }
+
+}
@@ -0,0 +1,118 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.benchmark;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.smartnsoft.recyclerview.adapter.SmartReorderAdapter;
+
+/**
+ * Reorders the items of a {@link SmartReorderAdapter} with {@link SmartReorderAdapter#swapElements(int, int)}: the {@code dragAcrossList}
+ * benchmark drags the first item {@link #SWAP_COUNT} positions down, one position at a time, as a drag gesture does, while the {@code swapRandomElements}
+ * benchmark performs {@link #SWAP_COUNT} swaps of distant items, whose notified range is larger.
+ * <p>
+ * With the identifiers index enabled, every swap is followed by a lookup, so that the cost of keeping the index up to date is measured too.
+ *
+ * @since 2026.10.16
+ */
+@State(Scope.Thread)
+public class ReorderBenchmark
+{
+
+  private static final int SWAP_COUNT = 1000;
+
+  @Param({ "100", "1000", "10000", "100000" })
+  public int size;
+
+  @Param({ "false", "true" })
+  public boolean idIndexEnabled;
+
+  private SmartReorderAdapter adapter;
+
+  private int[] fromIndices;
+
+  private int[] toIndices;
+
+  @Setup(Level.Trial)
+  public void setUpTrial()
+  {
+    final Random random = new Random(42);
+    fromIndices = new int[SWAP_COUNT];
+    toIndices = new int[SWAP_COUNT];
+    for (int index = 0; index < SWAP_COUNT; index++)
+    {
+      fromIndices[index] = random.nextInt(size);
+      toIndices[index] = random.nextInt(size);
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpInvocation()
+  {
+    adapter = new SmartReorderAdapter(null);
+    adapter.setIdIndexEnabled(idIndexEnabled);
+    adapter.setWrappers(BenchmarkWrapper.create(0, size));
+    CountingAdapterDataObserver.observe(adapter);
+  }
+
+  @Benchmark
+  public SmartReorderAdapter dragAcrossList()
+  {
+    final int lastPosition = Math.min(size - 1, SWAP_COUNT);
+    for (int position = 0; position < lastPosition; position++)
+    {
+      adapter.swapElements(position, position + 1);
+      lookUpIfIndexed(position);
+    }
+
+    return adapter;
+  }
+
+  @Benchmark
+  public SmartReorderAdapter swapRandomElements()
+  {
+    for (int index = 0; index < SWAP_COUNT; index++)
+    {
+      adapter.swapElements(fromIndices[index], toIndices[index]);
+      lookUpIfIndexed(index);
+    }
+
+    return adapter;
+  }
+
+  private void lookUpIfIndexed(long id)
+  {
+    if (idIndexEnabled)
+    {
+      adapter.getItemPosition(id);
+    }
+  }
+
+}
@@ -0,0 +1,94 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.benchmark;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.smartnsoft.recyclerview.adapter.SmartSelectorRecyclerAdapter;
+
+/**
+ * Toggles the selected state of {@link #TOGGLE_COUNT} random items of a {@link SmartSelectorRecyclerAdapter}, which also looks up their
+ * position and notifies their change, and selects then unselects all the items with the bulk operations.
+ *
+ * @since 2026.10.16
+ */
+@State(Scope.Thread)
+public class SelectorBenchmark
+{
+
+  private static final int TOGGLE_COUNT = 1000;
+
+  @Param({ "100", "1000", "10000", "100000" })
+  public int size;
+
+  @Param({ "false", "true" })
+  public boolean idIndexEnabled;
+
+  private SmartSelectorRecyclerAdapter adapter;
+
+  private long[] ids;
+
+  @Setup(Level.Trial)
+  public void setUpTrial()
+  {
+    adapter = new SmartSelectorRecyclerAdapter(null, true);
+    adapter.setIdIndexEnabled(idIndexEnabled);
+    adapter.setWrappers(BenchmarkWrapper.create(0, size));
+    CountingAdapterDataObserver.observe(adapter);
+
+    final Random random = new Random(42);
+    ids = new long[TOGGLE_COUNT];
+    for (int index = 0; index < TOGGLE_COUNT; index++)
+    {
+      ids[index] = random.nextInt(size);
+    }
+  }
+
+  @Benchmark
+  public SmartSelectorRecyclerAdapter toggleItemSelectedState()
+  {
+    for (final long id : ids)
+    {
+      adapter.toggleItemSelectedState(id);
+    }
+
+    return adapter;
+  }
+
+  @Benchmark
+  public long[] selectAllAndClearSelection()
+  {
+    adapter.selectAll();
+    final long[] selectedIds = adapter.getSelectedIds();
+    adapter.clearSelection();
+    return selectedIds;
+  }
+
+}
@@ -0,0 +1,133 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.smartnsoft.recyclerview.adapter.SmartRecyclerAdapter;
+import com.smartnsoft.recyclerview.adapter.SmartRecyclerAdapter.ComparisonType;
+import com.smartnsoft.recyclerview.adapter.SmartRecyclerAdapter.UpdateType;
+import com.smartnsoft.recyclerview.wrapper.SmartRecyclerViewWrapper;
+
+/**
+ * Merges a page of wrappers into a populated adapter with the duplicates handling {@link UpdateType} modes.
+ * <p>
+ * The {@code legacyUpdateWrappers} benchmark performs the same merge the way it used to be done, with a {@code contains()} and a
+ * {@code getItemPosition()} scan for every new wrapper, so that both algorithms can be compared.
+ *
+ * @since 2026.10.16
+ */
+@State(Scope.Thread)
+public class UpdateWrappersBenchmark
+{
+
+  @Param({ "100", "1000", "10000", "100000" })
+  public int size;
+
+  @Param({ "5000" })
+  public int pageSize;
+
+  @Param({ "0", "0.1", "0.5", "0.9" })
+  public float duplicateRatio;
+
+  @Param({ "IGNORE_NEW_DUPLICATES", "REMOVE_OLD_DUPLICATES", "REPLACE_DUPLICATES" })
+  public UpdateType updateType;
+
+  @Param({ "CLASSIC", "BUSINESS_OBJECT_AND_WRAPPER_TYPE" })
+  public ComparisonType comparisonType;
+
+  private List<SmartRecyclerViewWrapper<?>> existingWrappers;
+
+  private List<SmartRecyclerViewWrapper<?>> pageWrappers;
+
+  private SmartRecyclerAdapter adapter;
+
+  private List<SmartRecyclerViewWrapper<?>> newWrappers;
+
+  @Setup(Level.Trial)
+  public void setUpTrial()
+  {
+    existingWrappers = BenchmarkWrapper.create(0, size);
+    pageWrappers = BenchmarkWrapper.createPage(size, pageSize, duplicateRatio, new Random(42));
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpInvocation()
+  {
+    adapter = new SmartRecyclerAdapter(null, true);
+    adapter.setWrappers(existingWrappers);
+    CountingAdapterDataObserver.observe(adapter);
+    newWrappers = new ArrayList<>(pageWrappers);
+  }
+
+  @Benchmark
+  public SmartRecyclerAdapter updateWrappers()
+  {
+    adapter.updateWrappers(newWrappers, updateType, comparisonType);
+    return adapter;
+  }
+
+  @Benchmark
+  public SmartRecyclerAdapter legacyUpdateWrappers()
+  {
+    final List<SmartRecyclerViewWrapper<?>> wrappersToRemove = new ArrayList<>();
+    for (final SmartRecyclerViewWrapper<?> wrapper : newWrappers)
+    {
+      final long id = wrapper.getId();
+      final Class<?> businessObjectType = wrapper.getBusinessObject().getClass();
+      final Class<?> wrapperType = wrapper.getClass();
+      if (adapter.contains(id, businessObjectType, wrapperType, comparisonType))
+      {
+        final int position = adapter.getItemPosition(id, businessObjectType, wrapperType, comparisonType);
+        switch (updateType)
+        {
+          case IGNORE_NEW_DUPLICATES:
+            wrappersToRemove.add(wrapper);
+            break;
+          case REMOVE_OLD_DUPLICATES:
+            adapter.removeItem(position);
+            break;
+          case REPLACE_DUPLICATES:
+            adapter.set(position, wrapper);
+            wrappersToRemove.add(wrapper);
+            break;
+          default:
+            break;
+        }
+      }
+    }
+    newWrappers.removeAll(wrappersToRemove);
+    adapter.addAll(newWrappers);
+    return adapter;
+  }
+
+}
@@ -0,0 +1,198 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.recyclerview;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import android.content.Context;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.view.View.MeasureSpec;
+import android.view.ViewGroup;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import com.smartnsoft.recyclerview.adapter.SmartReorderAdapter;
+import com.smartnsoft.recyclerview.attributes.SmartRecyclerAttributes;
+import com.smartnsoft.recyclerview.wrapper.SmartRecyclerViewWrapper;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the frames of the drag and of the settle animation of the {@link SmartReorderRecyclerView} do not allocate any object, by
+ * measuring the bytes allocated by the current thread with the {@link com.sun.management.ThreadMXBean} of the JVM around the per-frame
+ * methods of a laid out recyclerview. The frames of the {@link android.animation.ValueAnimator} itself are not covered.
+ *
+ * @since 2026.10.16
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(manifest = Config.NONE, sdk = 27)
+public final class HoverCellAllocationTest
+{
+
+  /**
+   * A wrapper whose view is a plain {@link View} of a fixed height, which does not require any resource.
+   */
+  private static final class ItemWrapper
+      extends SmartRecyclerViewWrapper<String>
+  {
+
+    private final long id;
+
+    ItemWrapper(long id)
+    {
+      super("item-" + id, 0, 0);
+
+      this.id = id;
+    }
+
+    @Override
+    public long getId()
+    {
+      return id;
+    }
+
+    @Override
+    public View getNewView(ViewGroup parent, Context context)
+    {
+      final View view = new View(context);
+      view.setLayoutParams(new RecyclerView.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ITEM_HEIGHT));
+      view.setTag(new SmartRecyclerAttributes<String>(view)
+      {
+      });
+
+      return view;
+    }
+
+    @Override
+    protected Object extractNewViewAttributes(Context context, View view, String businessObject)
+    {
+      return null;
+    }
+
+  }
+
+  private static final int ITEM_HEIGHT = 100;
+
+  private static final int WIDTH = 1080;
+
+  private static final int HEIGHT = 1920;
+
+  private static final int FRAME_COUNT = 50000;
+
+  private static final int WARM_UP_FRAME_COUNT = 10000;
+
+  private SmartReorderRecyclerView recyclerView;
+
+  @Before
+  public void setUp()
+  {
+    final Context context = RuntimeEnvironment.application;
+    final List<SmartRecyclerViewWrapper<?>> wrappers = new ArrayList<>();
+    for (int index = 0; index < 50; index++)
+    {
+      wrappers.add(new ItemWrapper(index));
+    }
+    final SmartReorderAdapter adapter = new SmartReorderAdapter(context);
+    adapter.setHasStableIds(true);
+    adapter.setWrappers(wrappers);
+
+    recyclerView = new SmartReorderRecyclerView(context);
+    recyclerView.setLayoutManager(new LinearLayoutManager(context));
+    recyclerView.setAdapter(adapter);
+    recyclerView.measure(MeasureSpec.makeMeasureSpec(WIDTH, MeasureSpec.EXACTLY), MeasureSpec.makeMeasureSpec(HEIGHT, MeasureSpec.EXACTLY));
+    recyclerView.layout(0, 0, WIDTH, HEIGHT);
+
+    recyclerView.startDrag(recyclerView.getChildAt(1));
+  }
+
+  @Test
+  public void dragFramesDoNotAllocate()
+  {
+    dragFrames(WARM_UP_FRAME_COUNT);
+    final long allocatedBytes = measureAllocatedBytes(false);
+
+    // Less than one byte per frame: the measurement itself may allocate a few bytes, a single object per frame would weigh at least 16
+    assertTrue("The drag frames allocated " + allocatedBytes + " bytes", allocatedBytes < FRAME_COUNT);
+  }
+
+  @Test
+  public void settleFramesDoNotAllocate()
+  {
+    recyclerView.prepareSettle(recyclerView.getChildAt(1));
+
+    settleFrames(WARM_UP_FRAME_COUNT);
+    final long allocatedBytes = measureAllocatedBytes(true);
+
+    assertTrue("The settle frames allocated " + allocatedBytes + " bytes", allocatedBytes < FRAME_COUNT);
+  }
+
+  private long measureAllocatedBytes(boolean settle)
+  {
+    final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    Assume.assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+    final com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+    Assume.assumeTrue(allocationMXBean.isThreadAllocatedMemorySupported() && allocationMXBean.isThreadAllocatedMemoryEnabled());
+
+    final long threadId = Thread.currentThread().getId();
+    final long startBytes = allocationMXBean.getThreadAllocatedBytes(threadId);
+    if (settle)
+    {
+      settleFrames(FRAME_COUNT);
+    }
+    else
+    {
+      dragFrames(FRAME_COUNT);
+    }
+    return allocationMXBean.getThreadAllocatedBytes(threadId) - startBytes;
+  }
+
+  /**
+   * Moves the pointer up and down in the middle of the recyclerview, away from the auto-scroll edge zones.
+   */
+  private void dragFrames(int frameCount)
+  {
+    for (int frame = 0; frame < frameCount; frame++)
+    {
+      recyclerView.onDragFrame(WIDTH / 2, HEIGHT / 4 + frame % (HEIGHT / 4));
+    }
+  }
+
+  private void settleFrames(int frameCount)
+  {
+    for (int frame = 0; frame < frameCount; frame++)
+    {
+      recyclerView.onSettleFrame((frame % 100) / 100f);
+    }
+  }
+
+}
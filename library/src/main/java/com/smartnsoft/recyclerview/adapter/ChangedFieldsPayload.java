@@ -0,0 +1,95 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.adapter;
+
+import com.smartnsoft.recyclerview.attributes.SmartRecyclerAttributes;
+import com.smartnsoft.recyclerview.wrapper.SmartFieldDiffUtil;
+
+/**
+ * The payload of an item whose {@link SmartFieldDiffUtil field hash codes} have changed, the bit {@code n} of the mask being set when the
+ * field {@code n} has changed. The masks of all the payloads received at once by a holder are merged and handed over to
+ * {@link SmartRecyclerAttributes#onBusinessObjectFieldsUpdated(Object, long)}.
+ *
+ * @since 2026.10.16
+ */
+public final class ChangedFieldsPayload
+{
+
+  /**
+   * The maximum number of fields which fit in the mask.
+   */
+  public static final int MAXIMUM_FIELD_COUNT = 64;
+
+  /**
+   * @return the payload of the fields which differ, or {@code null} if the fields cannot be compared, because the numbers of fields differ or
+   * exceed {@link #MAXIMUM_FIELD_COUNT}, or because all the fields are the same
+   */
+  static ChangedFieldsPayload compute(long[] oldFieldHashCodes, long[] newFieldHashCodes)
+  {
+    if (oldFieldHashCodes == null || newFieldHashCodes == null || oldFieldHashCodes.length != newFieldHashCodes.length || newFieldHashCodes.length > ChangedFieldsPayload.MAXIMUM_FIELD_COUNT)
+    {
+      return null;
+    }
+
+    long changedFields = 0;
+    for (int field = 0; field < newFieldHashCodes.length; field++)
+    {
+      if (oldFieldHashCodes[field] != newFieldHashCodes[field])
+      {
+        changedFields |= 1L << field;
+      }
+    }
+
+    return changedFields == 0 ? null : new ChangedFieldsPayload(changedFields);
+  }
+
+  private final long changedFields;
+
+  public ChangedFieldsPayload(long changedFields)
+  {
+    this.changedFields = changedFields;
+  }
+
+  public long getChangedFields()
+  {
+    return changedFields;
+  }
+
+  public boolean isFieldChanged(int field)
+  {
+    return (changedFields & (1L << field)) != 0;
+  }
+
+  @Override
+  public boolean equals(Object object)
+  {
+    return object instanceof ChangedFieldsPayload && ((ChangedFieldsPayload) object).changedFields == changedFields;
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return (int) (changedFields ^ (changedFields >>> 32));
+  }
+
+}
@@ -0,0 +1,104 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.adapter;
+
+import com.smartnsoft.recyclerview.adapter.DiffUtilSmartRecyclerAdapter.SmartDiffUtilCallback;
+import com.smartnsoft.recyclerview.util.LongIntHashMap;
+
+/**
+ * Decides whether a {@link DiffUtilSmartRecyclerAdapter} should skip the diff and invoke {@code notifyDataSetChanged()} instead, when the diff
+ * would be too expensive or when nearly all the items have changed anyway.
+ *
+ * @see DiffUtilSmartRecyclerAdapter#setDiffUtilFallbackPolicy(DiffUtilFallbackPolicy)
+ * @since 2026.10.16
+ */
+public class DiffUtilFallbackPolicy
+{
+
+  /**
+   * The maximum number of items of the new list which are inspected in order to estimate the change ratio.
+   */
+  public static final int SAMPLE_SIZE = 64;
+
+  private final int maximumItemCount;
+
+  private final float maximumChangeRatio;
+
+  /**
+   * @param maximumItemCount   the diff is skipped when the old or the new window contains more items
+   * @param maximumChangeRatio the diff is skipped when a larger share of the sampled new items are either inserted or modified, between 0 and 1
+   */
+  public DiffUtilFallbackPolicy(int maximumItemCount, float maximumChangeRatio)
+  {
+    this.maximumItemCount = maximumItemCount;
+    this.maximumChangeRatio = maximumChangeRatio;
+  }
+
+  /**
+   * Invoked with the window which remains once the unchanged common prefix and suffix have been skipped, possibly from a background thread.
+   *
+   * @param callback the callback which compares the old and the new wrappers
+   * @param offset   the position where the window starts, in both lists
+   * @param oldCount the number of old items in the window
+   * @param newCount the number of new items in the window
+   * @return {@code true} if the diff should be skipped in favor of a {@code notifyDataSetChanged()} call
+   */
+  public boolean shouldNotifyDataSetChanged(SmartDiffUtilCallback callback, int offset, int oldCount, int newCount)
+  {
+    if (oldCount > maximumItemCount || newCount > maximumItemCount)
+    {
+      return true;
+    }
+
+    return computeSampledChangeRatio(callback, offset, oldCount, newCount) > maximumChangeRatio;
+  }
+
+  /**
+   * Inspects up to {@link #SAMPLE_SIZE} evenly spaced items of the new window, and looks for them in the old window by identifier.
+   *
+   * @return the share of the sampled items which are either not in the old window, or whose contents have changed
+   */
+  protected final float computeSampledChangeRatio(SmartDiffUtilCallback callback, int offset, int oldCount, int newCount)
+  {
+    final LongIntHashMap oldPositions = new LongIntHashMap(oldCount);
+    for (int oldIndex = 0; oldIndex < oldCount; oldIndex++)
+    {
+      oldPositions.putIfAbsent(callback.getOldItemId(offset + oldIndex), offset + oldIndex);
+    }
+
+    final int sampleCount = Math.min(newCount, DiffUtilFallbackPolicy.SAMPLE_SIZE);
+    int changedCount = 0;
+    for (int sample = 0; sample < sampleCount; sample++)
+    {
+      final int newPosition = offset + (int) ((long) sample * newCount / sampleCount);
+      final int oldPosition = oldPositions.get(callback.getNewItemId(newPosition), -1);
+      if (oldPosition == -1 || callback.areContentsTheSame(oldPosition, newPosition) == false)
+      {
+        changedCount++;
+      }
+    }
+
+    return sampleCount == 0 ? 0f : (float) changedCount / sampleCount;
+  }
+
+}
@@ -1,15 +1,25 @@
 package com.smartnsoft.recyclerview.adapter;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 import android.content.Context;
+import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
 import android.support.annotation.Nullable;
+import android.support.annotation.UiThread;
 import android.support.v7.util.DiffUtil;
+import android.support.v7.util.ListUpdateCallback;
 
 import com.smartnsoft.recyclerview.attributes.SmartRecyclerAttributes;
 import com.smartnsoft.recyclerview.wrapper.DiffUtilSmartRecyclerViewWrapper;
 import com.smartnsoft.recyclerview.wrapper.DiffUtilSpanRecyclerViewWrapper;
 import com.smartnsoft.recyclerview.wrapper.SmartDiffUtil;
+import com.smartnsoft.recyclerview.wrapper.SmartFieldDiffUtil;
 import com.smartnsoft.recyclerview.wrapper.SmartRecyclerViewWrapper;
 
 /**
@@ -23,16 +33,81 @@ public abstract class DiffUtilSmartRecyclerAdapter
     extends SmartRecyclerAdapter
 {
 
+  /**
+   * The way the adapter has been notified by the last applied {@code setWrappersForDiffUtil} call:
+   * <li>{@link #UNCHANGED}</li>
+   * <li>{@link #RANGE}</li>
+   * <li>{@link #DIFF}</li>
+   * <li>{@link #DATA_SET_CHANGED}</li>
+   */
+  public enum UpdatePath
+  {
+    /**
+     * No item has changed, so nothing has been notified
+     */
+    UNCHANGED,
+    /**
+     * Items have only been inserted or only been removed at a single place, which has been notified as a single range without any diff
+     */
+    RANGE,
+    /**
+     * The updates have been computed by the diff engine
+     */
+    DIFF,
+    /**
+     * The diff has been skipped by the fallback policy, in favor of a {@code notifyDataSetChanged()} call
+     */
+    DATA_SET_CHANGED
+  }
+
+  /**
+   * Interface definition for a callback to be invoked when a {@link #setWrappersForDiffUtilAsync(List, OnDiffUtilCompletedListener)} call completes.
+   */
+  public interface OnDiffUtilCompletedListener
+  {
+
+    /**
+     * Callback method to be invoked on the main thread once the diff has been computed.
+     *
+     * @param applied {@code true} if the new wrappers have been applied to the adapter, {@code false} if the result has been dropped because a newer
+     *                {@code setWrappersForDiffUtil} call arrived first
+     */
+    void onDiffUtilCompleted(boolean applied);
+
+  }
+
   public abstract static class SmartDiffUtilCallback
       extends DiffUtil.Callback
   {
 
+    /**
+     * @deprecated this payload is not emitted anymore, as a boxed integer could not be told apart from a payload of the application: the whole
+     * item is refreshed when {@link #getChangePayloadCustom(int, int, Object, Object)} returns {@code null}
+     */
+    @Deprecated
     public static final int ITEM_CHANGED_PAYLOAD = 1;
 
+    /**
+     * The payload which requests the whole item to be refreshed, which is compared by reference.
+     */
+    private static final Object FULL_BIND_PAYLOAD = new Object();
+
     protected List<? extends SmartRecyclerViewWrapper<?>> oldWrappers;
 
     protected List<? extends SmartRecyclerViewWrapper<?>> newWrappers;
 
+    /**
+     * The identifiers and the diff hash codes of the wrappers, extracted once from both lists on the first comparison, so that the diff only
+     * compares primitive values.
+     */
+    private long[] oldItemIds;
+
+    private long[] newItemIds;
+
+    private long[] oldDiffUtilHashCodes;
+
+    private long[] newDiffUtilHashCodes;
+
     public SmartDiffUtilCallback(List<? extends SmartRecyclerViewWrapper<?>> oldWrappers,
         List<? extends SmartRecyclerViewWrapper<?>> newWrappers)
     {
@@ -55,24 +130,43 @@ public abstract class DiffUtilSmartRecyclerAdapter
     @Override
     public boolean areItemsTheSame(int oldItemPosition, int newItemPosition)
     {
-      final SmartRecyclerViewWrapper<?> oldSmartRecyclerViewWrapper = oldWrappers.get(oldItemPosition);
-      final SmartRecyclerViewWrapper<?> newSmartRecyclerViewWrapper = newWrappers.get(newItemPosition);
+      extractItemIds();
+
+      return oldItemIds[oldItemPosition] == newItemIds[newItemPosition];
+    }
+
+    /**
+     * Used by the {@link KeyedDiffEngine}, which matches the old and the new items by identifier instead of invoking
+     * {@link #areItemsTheSame(int, int)}: both methods must be overridden consistently.
+     *
+     * @param oldItemPosition the position of the item in the old list
+     * @return the identifier of the item, which is the {@link SmartRecyclerViewWrapper#getId() wrapper identifier} by default
+     */
+    public long getOldItemId(int oldItemPosition)
+    {
+      extractItemIds();
+
+      return oldItemIds[oldItemPosition];
+    }
+
+    /**
+     * @param newItemPosition the position of the item in the new list
+     * @return the identifier of the item, which is the {@link SmartRecyclerViewWrapper#getId() wrapper identifier} by default
+     * @see #getOldItemId(int)
+     */
+    public long getNewItemId(int newItemPosition)
+    {
+      extractItemIds();
 
-      return oldSmartRecyclerViewWrapper.getId() == newSmartRecyclerViewWrapper.getId();
+      return newItemIds[newItemPosition];
     }
 
     @Override
     public boolean areContentsTheSame(int oldItemPosition, int newItemPosition)
     {
-      final SmartRecyclerViewWrapper<?> oldSmartRecyclerViewWrapper = oldWrappers.get(oldItemPosition);
-      final SmartRecyclerViewWrapper<?> newSmartRecyclerViewWrapper = newWrappers.get(newItemPosition);
-
-      if ((oldSmartRecyclerViewWrapper instanceof SmartDiffUtil) == false || (newSmartRecyclerViewWrapper instanceof SmartDiffUtil) == false)
-      {
-        throw new IllegalArgumentException("Wrappers have to implement the IDiffUtil interface");
-      }
+      extractDiffUtilHashCodes();
 
-      return ((SmartDiffUtil) oldSmartRecyclerViewWrapper).getDiffUtilHashCode() == ((SmartDiffUtil) newSmartRecyclerViewWrapper).getDiffUtilHashCode();
+      return oldDiffUtilHashCodes[oldItemPosition] == newDiffUtilHashCodes[newItemPosition];
     }
 
     @Nullable
@@ -83,8 +177,23 @@ public abstract class DiffUtilSmartRecyclerAdapter
       final Object newBusinessObject = newWrappers.get(newItemPosition).getBusinessObject();
 
       final Object result = getChangePayloadCustom(oldItemPosition, newItemPosition, oldBusinessObject, newBusinessObject);
+      if (result != null)
+      {
+        return result;
+      }
 
-      return result == null ? SmartDiffUtilCallback.ITEM_CHANGED_PAYLOAD : result;
+      final SmartRecyclerViewWrapper<?> oldSmartRecyclerViewWrapper = oldWrappers.get(oldItemPosition);
+      final SmartRecyclerViewWrapper<?> newSmartRecyclerViewWrapper = newWrappers.get(newItemPosition);
+      if (oldSmartRecyclerViewWrapper instanceof SmartFieldDiffUtil && newSmartRecyclerViewWrapper instanceof SmartFieldDiffUtil)
+      {
+        final ChangedFieldsPayload changedFieldsPayload = ChangedFieldsPayload.compute(((SmartFieldDiffUtil) oldSmartRecyclerViewWrapper).getDiffUtilFieldHashCodes(), ((SmartFieldDiffUtil) newSmartRecyclerViewWrapper).getDiffUtilFieldHashCodes());
+        if (changedFieldsPayload != null)
+        {
+          return changedFieldsPayload;
+        }
+      }
+
+      return SmartDiffUtilCallback.FULL_BIND_PAYLOAD;
     }
 
     /**
@@ -95,14 +204,149 @@ public abstract class DiffUtilSmartRecyclerAdapter
      * @param newItemPosition   The position of the item in the new list
      * @param oldBusinessObject the old item
      * @param newBusinessObject the new item
-     * @return {@code null} if and only if the method has NOT handled the payload so the {@link SmartDiffUtilCallback#getChangePayload(int, int)} returns {@link SmartDiffUtilCallback#ITEM_CHANGED_PAYLOAD} in order to refresh the whole item ;
-     * otherwise a non null value in order to handled the payload
+     * @return {@code null} if and only if the method has NOT handled the payload so the {@link SmartDiffUtilCallback#getChangePayload(int, int)} returns
+     * a {@link ChangedFieldsPayload} when both wrappers implement {@link SmartFieldDiffUtil}, and a payload which refreshes the whole item
+     * otherwise ; otherwise a non null value in order to handled the payload
      */
     protected abstract Object getChangePayloadCustom(int oldItemPosition, int newItemPosition, Object oldBusinessObject,
         Object newBusinessObject);
 
+    private static long[] extractItemIds(List<? extends SmartRecyclerViewWrapper<?>> wrappers)
+    {
+      final long[] itemIds = new long[wrappers == null ? 0 : wrappers.size()];
+      for (int position = 0; position < itemIds.length; position++)
+      {
+        itemIds[position] = wrappers.get(position).getId();
+      }
+
+      return itemIds;
+    }
+
+    private static long[] extractDiffUtilHashCodes(List<? extends SmartRecyclerViewWrapper<?>> wrappers)
+    {
+      final long[] diffUtilHashCodes = new long[wrappers == null ? 0 : wrappers.size()];
+      for (int position = 0; position < diffUtilHashCodes.length; position++)
+      {
+        final SmartRecyclerViewWrapper<?> smartRecyclerViewWrapper = wrappers.get(position);
+        if ((smartRecyclerViewWrapper instanceof SmartDiffUtil) == false)
+        {
+          throw new IllegalArgumentException("Wrappers have to implement the IDiffUtil interface");
+        }
+        diffUtilHashCodes[position] = ((SmartDiffUtil) smartRecyclerViewWrapper).getDiffUtilHashCode();
+      }
+
+      return diffUtilHashCodes;
+    }
+
+    private void extractItemIds()
+    {
+      if (oldItemIds == null)
+      {
+        oldItemIds = SmartDiffUtilCallback.extractItemIds(oldWrappers);
+        newItemIds = SmartDiffUtilCallback.extractItemIds(newWrappers);
+      }
+    }
+
+    private void extractDiffUtilHashCodes()
+    {
+      if (oldDiffUtilHashCodes == null)
+      {
+        oldDiffUtilHashCodes = SmartDiffUtilCallback.extractDiffUtilHashCodes(oldWrappers);
+        newDiffUtilHashCodes = SmartDiffUtilCallback.extractDiffUtilHashCodes(newWrappers);
+      }
+    }
+
+  }
+
+  /**
+   * The updates between the old and the new wrappers: the unchanged common prefix and suffix are skipped, and the {@link SmartDiffEngine} only
+   * runs on the remaining window when it contains both old and new items.
+   */
+  private static final class DiffUtilUpdate
+  {
+
+    /**
+     * The length of the unchanged common prefix, where the window starts.
+     */
+    private final int offset;
+
+    private final int oldCount;
+
+    private final int newCount;
+
+    private final UpdatePath updatePath;
+
+    /**
+     * The diff of the window, which is only set on the {@link UpdatePath#DIFF} path.
+     */
+    private final SmartDiffEngine.DiffUpdates diffUpdates;
+
+    DiffUtilUpdate(int offset, int oldCount, int newCount, UpdatePath updatePath, SmartDiffEngine.DiffUpdates diffUpdates)
+    {
+      this.offset = offset;
+      this.oldCount = oldCount;
+      this.newCount = newCount;
+      this.updatePath = updatePath;
+      this.diffUpdates = diffUpdates;
+    }
+
+  }
+
+  /**
+   * Notifies the adapter of the updates of a window which starts at a given offset.
+   */
+  private final class OffsetListUpdateCallback
+      implements ListUpdateCallback
+  {
+
+    private final int offset;
+
+    OffsetListUpdateCallback(int offset)
+    {
+      this.offset = offset;
+    }
+
+    @Override
+    public void onInserted(int position, int count)
+    {
+      notifyItemRangeInserted(offset + position, count);
+    }
+
+    @Override
+    public void onRemoved(int position, int count)
+    {
+      notifyItemRangeRemoved(offset + position, count);
+    }
+
+    @Override
+    public void onMoved(int fromPosition, int toPosition)
+    {
+      notifyItemMoved(offset + fromPosition, offset + toPosition);
+    }
+
+    @Override
+    public void onChanged(int position, int count, Object payload)
+    {
+      notifyItemRangeChanged(offset + position, count, payload);
+    }
+
   }
 
+  private SmartDiffEngine diffEngine = new MyersDiffEngine();
+
+  private DiffUtilFallbackPolicy diffUtilFallbackPolicy;
+
+  private UpdatePath lastUpdatePath = UpdatePath.UNCHANGED;
+
+  private Executor diffUtilExecutor = AsyncTask.THREAD_POOL_EXECUTOR;
+
+  private Handler mainThreadHandler;
+
+  /**
+   * Incremented on each modification of the wrappers, so that the result of a former asynchronous diff can be detected as stale.
+   */
+  private volatile int diffUtilGeneration;
+
   public DiffUtilSmartRecyclerAdapter(Context context)
   {
     super(context);
@@ -114,18 +358,80 @@ public abstract class DiffUtilSmartRecyclerAdapter
     throw new UnsupportedOperationException("Use the setWrappersForDiffUtil() method instead");
   }
 
+  @Override
+  void onWrappersChanged()
+  {
+    // Any pending asynchronous result is now stale
+    diffUtilGeneration++;
+  }
+
+  /**
+   * @deprecated override {@link #onBindViewHolderWithPayloads(SmartRecyclerAttributes, int, List)} instead, which this method delegates to
+   * once the bind is measured
+   */
+  @Deprecated
   @Override
   public void onBindViewHolder(SmartRecyclerAttributes holder, int position, List<Object> payloads)
   {
-    if (payloads.isEmpty() == false)
+    super.onBindViewHolder(holder, position, payloads);
+  }
+
+  @Override
+  protected void onBindViewHolderWithPayloads(SmartRecyclerAttributes holder, int position, List<Object> payloads)
+  {
+    // The payloads of all the updates notified since the last layout pass are received at once: the holder is fully bound at most once
+    if (payloads.isEmpty() == false && containsFullBindPayload(payloads) == false)
     {
-      for (final Object payload : payloads)
+      long changedFields = 0;
+      boolean isSelectionChanged = false;
+      Object firstCustomPayload = null;
+      Set<Object> handledPayloads = null;
+      for (int index = 0; index < payloads.size(); index++)
       {
+        final Object payload = payloads.get(index);
+        if (payload == SelectionPayload.INSTANCE)
+        {
+          isSelectionChanged = true;
+          continue;
+        }
+        if (payload instanceof ChangedFieldsPayload)
+        {
+          // The changed fields are merged, so that they are bound at once
+          changedFields |= ((ChangedFieldsPayload) payload).getChangedFields();
+          continue;
+        }
+        if (firstCustomPayload == null)
+        {
+          firstCustomPayload = payload;
+        }
+        else
+        {
+          // The set is only allocated when several custom payloads are received
+          if (handledPayloads == null)
+          {
+            handledPayloads = new HashSet<>();
+            handledPayloads.add(firstCustomPayload);
+          }
+          if (handledPayloads.add(payload) == false)
+          {
+            // The same change has already been handled
+            continue;
+          }
+        }
         if (onBindViewHolderCustom(holder, position, payload) == false)
         {
+          // The full bind also covers the remaining payloads
           onBindViewHolder(holder, position);
+          return;
         }
       }
+
+      // The full bind also covers the selected state
+      if ((changedFields != 0 && holder.onBusinessObjectFieldsUpdated(wrappers.get(position).getBusinessObject(), changedFields) == false)
+          || (isSelectionChanged && bindSelectedState(holder, position) == false))
+      {
+        onBindViewHolder(holder, position);
+      }
     }
     else
     {
@@ -134,7 +440,8 @@ public abstract class DiffUtilSmartRecyclerAdapter
   }
 
   /**
-   * {@link DiffUtilSmartRecyclerAdapter#onBindViewHolder(SmartRecyclerAttributes, int, List)} calls this method when the {@code payloads} list is not empty.
+   * {@link DiffUtilSmartRecyclerAdapter#onBindViewHolderWithPayloads(SmartRecyclerAttributes, int, List)} calls this method once for each distinct payload, unless
+   * one of them requests the whole item to be refreshed or a former call returned {@code false}, the holder being fully updated instead.
    *
    * @param holder   The ViewHolder which should be updated to represent the contents of the item at the given position in the data set.
    * @param position The position of the item within the adapter's data set.
@@ -143,6 +450,19 @@ public abstract class DiffUtilSmartRecyclerAdapter
    */
   public abstract boolean onBindViewHolderCustom(SmartRecyclerAttributes holder, int position, Object payload);
 
+  private static boolean containsFullBindPayload(List<Object> payloads)
+  {
+    for (int index = 0; index < payloads.size(); index++)
+    {
+      if (payloads.get(index) == SmartDiffUtilCallback.FULL_BIND_PAYLOAD)
+      {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
   /**
    * Returns the {@link DiffUtil.Callback} that should be used by the {@link DiffUtilSmartRecyclerAdapter}
    *
@@ -158,14 +478,136 @@ public abstract class DiffUtilSmartRecyclerAdapter
    *
    * @param newWrappers the new wrappers
    */
+  @UiThread
   public void setWrappersForDiffUtil(List<? extends SmartRecyclerViewWrapper<?>> newWrappers)
   {
+    // Any pending asynchronous result is now stale
+    diffUtilGeneration++;
+
     final SmartDiffUtilCallback diffCallback = getDiffUtilCallback(wrappers, newWrappers);
-    final DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(diffCallback, isDetectMoves());
+    final DiffUtilUpdate update = computeDiffUtilUpdate(diffEngine, diffUtilFallbackPolicy, diffCallback, isDetectMoves());
 
-    super.setWrappers(newWrappers);
+    applyDiffUtilUpdate(newWrappers, update);
+  }
 
-    diffResult.dispatchUpdatesTo(this);
+  /**
+   * Works like {@link #setWrappersForDiffUtil(List)}, but computes the diff on the {@link #setDiffUtilExecutor(Executor) diff executor}, and then
+   * applies the new wrappers and dispatches the updates on the main thread.
+   * <p>
+   * If the wrappers are modified before the diff is applied, by another {@code setWrappersForDiffUtil} call or by any other method of the
+   * adapter, its result is dropped, as it has been computed from the former wrappers.
+   * The {@link SmartDiffUtilCallback#areItemsTheSame(int, int)} and {@link SmartDiffUtilCallback#areContentsTheSame(int, int)} methods are
+   * invoked from a background thread.
+   * It MUST be used on the UI thread.
+   *
+   * @param newWrappers the new wrappers
+   * @param listener    an optional listener which is notified on the main thread once the diff has been applied or dropped
+   */
+  @UiThread
+  public void setWrappersForDiffUtilAsync(List<? extends SmartRecyclerViewWrapper<?>> newWrappers,
+      @Nullable final OnDiffUtilCompletedListener listener)
+  {
+    final int generation = ++diffUtilGeneration;
+
+    // Both lists are copied, because the diff runs while the caller and the adapter keep on using them
+    final List<SmartRecyclerViewWrapper<?>> oldWrappersSnapshot = new ArrayList<>(wrappers);
+    final List<SmartRecyclerViewWrapper<?>> newWrappersSnapshot = new ArrayList<>(newWrappers);
+    final SmartDiffUtilCallback diffCallback = getDiffUtilCallback(oldWrappersSnapshot, newWrappersSnapshot);
+    final boolean detectMoves = isDetectMoves();
+    final SmartDiffEngine engine = diffEngine;
+    final DiffUtilFallbackPolicy fallbackPolicy = diffUtilFallbackPolicy;
+
+    if (mainThreadHandler == null)
+    {
+      mainThreadHandler = new Handler(Looper.getMainLooper());
+    }
+
+    diffUtilExecutor.execute(new Runnable()
+    {
+      @Override
+      public void run()
+      {
+        DiffUtilUpdate diffUtilUpdate = null;
+        RuntimeException diffException = null;
+        if (generation == diffUtilGeneration)
+        {
+          try
+          {
+            diffUtilUpdate = computeDiffUtilUpdate(engine, fallbackPolicy, diffCallback, detectMoves);
+          }
+          catch (RuntimeException exception)
+          {
+            diffException = exception;
+          }
+        }
+
+        final DiffUtilUpdate update = diffUtilUpdate;
+        final RuntimeException exception = diffException;
+        mainThreadHandler.post(new Runnable()
+        {
+          @Override
+          public void run()
+          {
+            if (exception != null)
+            {
+              // The failure is reported on the main thread, as with the synchronous method
+              throw exception;
+            }
+
+            final boolean applied = update != null && generation == diffUtilGeneration;
+            if (applied)
+            {
+              applyDiffUtilUpdate(newWrappersSnapshot, update);
+            }
+            if (listener != null)
+            {
+              listener.onDiffUtilCompleted(applied);
+            }
+          }
+        });
+      }
+    });
+  }
+
+  /**
+   * Sets the {@link Executor} which computes the diffs of the {@link #setWrappersForDiffUtilAsync(List, OnDiffUtilCompletedListener)} method.
+   * Defaults to the {@link AsyncTask#THREAD_POOL_EXECUTOR}.
+   *
+   * @param executor the executor to use
+   */
+  public void setDiffUtilExecutor(Executor executor)
+  {
+    this.diffUtilExecutor = executor;
+  }
+
+  /**
+   * Sets the algorithm which computes the updates between the old and the new wrappers. Defaults to a {@link MyersDiffEngine}.
+   * A {@link KeyedDiffEngine} is much faster on large lists with many moved items, provided the wrappers have unique identifiers.
+   *
+   * @param diffEngine the diff engine to use
+   */
+  public void setDiffEngine(SmartDiffEngine diffEngine)
+  {
+    this.diffEngine = diffEngine;
+  }
+
+  /**
+   * Sets the policy which decides when the diff is not worth computing, in which case the adapter is notified through
+   * {@code notifyDataSetChanged()}. There is no policy by default, so that the diff is always computed.
+   *
+   * @param diffUtilFallbackPolicy the policy to use, or {@code null} in order to always compute the diff
+   */
+  public void setDiffUtilFallbackPolicy(@Nullable DiffUtilFallbackPolicy diffUtilFallbackPolicy)
+  {
+    this.diffUtilFallbackPolicy = diffUtilFallbackPolicy;
+  }
+
+  /**
+   * @return the way the adapter has been notified by the last applied {@code setWrappersForDiffUtil} call
+   */
+  public UpdatePath getLastUpdatePath()
+  {
+    return lastUpdatePath;
   }
 
   protected boolean isDetectMoves()
@@ -173,4 +615,75 @@ public abstract class DiffUtilSmartRecyclerAdapter
     return true;
   }
 
+  /**
+   * Skips the common prefix and suffix of unchanged items, and only runs the {@link SmartDiffEngine} on the remaining window.
+   * When the window only contains inserted items, like when appending or prepending a page, or only removed items, no diff is computed at all.
+   * Otherwise, the fallback policy may skip the diff.
+   */
+  private static DiffUtilUpdate computeDiffUtilUpdate(SmartDiffEngine diffEngine,
+      DiffUtilFallbackPolicy fallbackPolicy, SmartDiffUtilCallback callback, boolean detectMoves)
+  {
+    final int oldSize = callback.getOldListSize();
+    final int newSize = callback.getNewListSize();
+    final int minimumSize = Math.min(oldSize, newSize);
+
+    int prefix = 0;
+    while (prefix < minimumSize && callback.areItemsTheSame(prefix, prefix) && callback.areContentsTheSame(prefix, prefix))
+    {
+      prefix++;
+    }
+
+    int suffix = 0;
+    while (suffix < minimumSize - prefix && callback.areItemsTheSame(oldSize - 1 - suffix, newSize - 1 - suffix) && callback.areContentsTheSame(oldSize - 1 - suffix, newSize - 1 - suffix))
+    {
+      suffix++;
+    }
+
+    final int oldCount = oldSize - prefix - suffix;
+    final int newCount = newSize - prefix - suffix;
+    if (oldCount == 0 && newCount == 0)
+    {
+      return new DiffUtilUpdate(prefix, oldCount, newCount, UpdatePath.UNCHANGED, null);
+    }
+    else if (oldCount == 0 || newCount == 0)
+    {
+      return new DiffUtilUpdate(prefix, oldCount, newCount, UpdatePath.RANGE, null);
+    }
+    else if (fallbackPolicy != null && fallbackPolicy.shouldNotifyDataSetChanged(callback, prefix, oldCount, newCount))
+    {
+      return new DiffUtilUpdate(prefix, oldCount, newCount, UpdatePath.DATA_SET_CHANGED, null);
+    }
+
+    return new DiffUtilUpdate(prefix, oldCount, newCount, UpdatePath.DIFF, diffEngine.calculateDiff(callback, prefix, oldCount, newCount, detectMoves));
+  }
+
+  private void applyDiffUtilUpdate(List<? extends SmartRecyclerViewWrapper<?>> newWrappers, DiffUtilUpdate update)
+  {
+    super.setWrappers(newWrappers);
+    lastUpdatePath = update.updatePath;
+
+    switch (update.updatePath)
+    {
+      case DIFF:
+        update.diffUpdates.dispatchUpdatesTo(new OffsetListUpdateCallback(update.offset));
+        break;
+      case DATA_SET_CHANGED:
+        notifyDataSetChanged();
+        break;
+      case RANGE:
+        if (update.oldCount > 0)
+        {
+          notifyItemRangeRemoved(update.offset, update.oldCount);
+        }
+        else
+        {
+          notifyItemRangeInserted(update.offset, update.newCount);
+        }
+        break;
+      case UNCHANGED:
+      default:
+        break;
+    }
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,369 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.adapter;
+
+import java.util.Arrays;
+
+import android.support.v7.util.BatchingListUpdateCallback;
+import android.support.v7.util.ListUpdateCallback;
+
+import com.smartnsoft.recyclerview.adapter.DiffUtilSmartRecyclerAdapter.SmartDiffUtilCallback;
+import com.smartnsoft.recyclerview.util.LongIntHashMap;
+
+/**
+ * A {@link SmartDiffEngine} which matches the old and the new items by their identifiers, and which keeps in place the longest increasing
+ * subsequence of the matched items, every other matched item being moved. It runs in O(N log N) whatever the number of moves, where
+ * the {@link MyersDiffEngine} degrades to O(N + D^2) on heavily reshuffled lists.
+ * <p>
+ * It relies on {@link SmartDiffUtilCallback#getOldItemId(int)} and {@link SmartDiffUtilCallback#getNewItemId(int)} rather than on
+ * {@link SmartDiffUtilCallback#areItemsTheSame(int, int)}, hence requires unique identifiers: when several items of a list share the same
+ * identifier, the diff is delegated to a {@link MyersDiffEngine}.
+ *
+ * @since 2026.10.16
+ */
+public final class KeyedDiffEngine
+    implements SmartDiffEngine
+{
+
+  /**
+   * The updates, recorded as triplets of integers and replayed at dispatch time.
+   */
+  private static final class KeyedDiffUpdates
+      implements DiffUpdates
+  {
+
+    private static final int INSERTED = 0;
+
+    private static final int REMOVED = 1;
+
+    private static final int MOVED = 2;
+
+    private static final int CHANGED = 3;
+
+    private final SmartDiffUtilCallback callback;
+
+    private final int offset;
+
+    private int[] operations = new int[48];
+
+    private int size;
+
+    KeyedDiffUpdates(SmartDiffUtilCallback callback, int offset)
+    {
+      this.callback = callback;
+      this.offset = offset;
+    }
+
+    @Override
+    public void dispatchUpdatesTo(ListUpdateCallback updateCallback)
+    {
+      // Merges the consecutive updates of the same kind into range updates, as DiffUtil does
+      final BatchingListUpdateCallback batchingCallback = new BatchingListUpdateCallback(updateCallback);
+      for (int index = 0; index < size; index += 3)
+      {
+        final int first = operations[index + 1];
+        final int second = operations[index + 2];
+        switch (operations[index])
+        {
+          case KeyedDiffUpdates.INSERTED:
+            batchingCallback.onInserted(first, 1);
+            break;
+          case KeyedDiffUpdates.REMOVED:
+            batchingCallback.onRemoved(first, 1);
+            break;
+          case KeyedDiffUpdates.MOVED:
+            batchingCallback.onMoved(first, second);
+            break;
+          case KeyedDiffUpdates.CHANGED:
+          default:
+            // The final position of a changed item is its position in the new list
+            batchingCallback.onChanged(first, 1, callback.getChangePayload(offset + second, offset + first));
+            break;
+        }
+      }
+      batchingCallback.dispatchLastEvent();
+    }
+
+    void add(int operation, int first, int second)
+    {
+      if (size + 3 > operations.length)
+      {
+        operations = Arrays.copyOf(operations, operations.length * 2);
+      }
+      operations[size++] = operation;
+      operations[size++] = first;
+      operations[size++] = second;
+    }
+
+  }
+
+  /**
+   * A Fenwick tree which counts the occupied slots before a given slot in O(log N).
+   */
+  private static final class SlotCounter
+  {
+
+    private final int[] tree;
+
+    SlotCounter(int slotCount)
+    {
+      tree = new int[slotCount + 1];
+    }
+
+    void add(int slot, int delta)
+    {
+      for (int index = slot + 1; index < tree.length; index += index & -index)
+      {
+        tree[index] += delta;
+      }
+    }
+
+    int countBefore(int slot)
+    {
+      int count = 0;
+      for (int index = slot; index > 0; index -= index & -index)
+      {
+        count += tree[index];
+      }
+
+      return count;
+    }
+
+  }
+
+  private final SmartDiffEngine fallbackEngine = new MyersDiffEngine();
+
+  @Override
+  public DiffUpdates calculateDiff(SmartDiffUtilCallback callback, int offset, int oldCount, int newCount,
+      boolean detectMoves)
+  {
+    // Matches the items by identifier
+    final LongIntHashMap newPositions = new LongIntHashMap(newCount);
+    for (int newIndex = 0; newIndex < newCount; newIndex++)
+    {
+      if (newPositions.putIfAbsent(callback.getNewItemId(offset + newIndex), newIndex) == false)
+      {
+        return fallbackEngine.calculateDiff(callback, offset, oldCount, newCount, detectMoves);
+      }
+    }
+
+    final int[] oldToNew = new int[oldCount];
+    final int[] newToOld = new int[newCount];
+    Arrays.fill(newToOld, -1);
+    int keptCount = 0;
+    for (int oldIndex = 0; oldIndex < oldCount; oldIndex++)
+    {
+      final int newIndex = newPositions.get(callback.getOldItemId(offset + oldIndex), -1);
+      if (newIndex != -1)
+      {
+        if (newToOld[newIndex] != -1)
+        {
+          return fallbackEngine.calculateDiff(callback, offset, oldCount, newCount, detectMoves);
+        }
+        newToOld[newIndex] = oldIndex;
+        keptCount++;
+      }
+      oldToNew[oldIndex] = newIndex;
+    }
+
+    final boolean[] stable = computeStableItems(oldToNew, newCount, keptCount);
+    if (detectMoves == false)
+    {
+      // The items which would be moved are removed and inserted instead
+      for (int newIndex = 0; newIndex < newCount; newIndex++)
+      {
+        final int oldIndex = newToOld[newIndex];
+        if (oldIndex != -1 && stable[newIndex] == false)
+        {
+          oldToNew[oldIndex] = -1;
+          newToOld[newIndex] = -1;
+          keptCount--;
+        }
+      }
+    }
+
+    final KeyedDiffUpdates updates = new KeyedDiffUpdates(callback, offset);
+
+    // The removed items, from the end so that the positions of the remaining ones are not shifted
+    for (int oldIndex = oldCount - 1; oldIndex >= 0; oldIndex--)
+    {
+      if (oldToNew[oldIndex] == -1)
+      {
+        updates.add(KeyedDiffUpdates.REMOVED, oldIndex, 0);
+      }
+    }
+
+    placeItems(updates, oldToNew, newToOld, stable, keptCount);
+
+    // The changes are notified at the final positions, once every item is in place
+    for (int newIndex = 0; newIndex < newCount; newIndex++)
+    {
+      final int oldIndex = newToOld[newIndex];
+      if (oldIndex != -1 && callback.areContentsTheSame(offset + oldIndex, offset + newIndex) == false)
+      {
+        updates.add(KeyedDiffUpdates.CHANGED, newIndex, oldIndex);
+      }
+    }
+
+    return updates;
+  }
+
+  /**
+   * Flags, by new position, the matched items which form the longest increasing subsequence of new positions taken in the old order: those
+   * items keep their relative order, so that they do not need to move.
+   */
+  private static boolean[] computeStableItems(int[] oldToNew, int newCount, int keptCount)
+  {
+    final int[] sequence = new int[keptCount];
+    int sequenceLength = 0;
+    for (final int newIndex : oldToNew)
+    {
+      if (newIndex != -1)
+      {
+        sequence[sequenceLength++] = newIndex;
+      }
+    }
+
+    // Patience sorting, in O(N log N)
+    final int[] tails = new int[keptCount];
+    final int[] previous = new int[keptCount];
+    int length = 0;
+    for (int index = 0; index < keptCount; index++)
+    {
+      int low = 0;
+      int high = length;
+      while (low < high)
+      {
+        final int middle = (low + high) >>> 1;
+        if (sequence[tails[middle]] < sequence[index])
+        {
+          low = middle + 1;
+        }
+        else
+        {
+          high = middle;
+        }
+      }
+      previous[index] = low > 0 ? tails[low - 1] : -1;
+      tails[low] = index;
+      if (low == length)
+      {
+        length++;
+      }
+    }
+
+    final boolean[] stable = new boolean[newCount];
+    for (int index = length > 0 ? tails[length - 1] : -1; index != -1; index = previous[index])
+    {
+      stable[sequence[index]] = true;
+    }
+
+    return stable;
+  }
+
+  /**
+   * Moves the unstable matched items and inserts the new items, walking the new list from its end: each of them is placed right before the
+   * item which follows it in the new list, which is already in place.
+   * <p>
+   * The current positions are computed with slots: the remaining items get one slot each in the old order, and a block of free slots is
+   * reserved before each stable item, and at the end, for the items which have to be placed before it.
+   */
+  private static void placeItems(KeyedDiffUpdates updates, int[] oldToNew, int[] newToOld, boolean[] stable,
+      int keptCount)
+  {
+    final int newCount = newToOld.length;
+
+    // The size of the block reserved before each stable item, the last block being the one at the end
+    int stableCount = 0;
+    for (int newIndex = 0; newIndex < newCount; newIndex++)
+    {
+      if (newToOld[newIndex] != -1 && stable[newIndex])
+      {
+        stableCount++;
+      }
+    }
+    final int[] blockEnds = new int[stableCount + 1];
+    int block = 0;
+    for (int newIndex = 0; newIndex < newCount; newIndex++)
+    {
+      if (newToOld[newIndex] != -1 && stable[newIndex])
+      {
+        block++;
+      }
+      else
+      {
+        blockEnds[block]++;
+      }
+    }
+
+    final int[] oldSlots = new int[oldToNew.length];
+    final SlotCounter slotCounter = new SlotCounter(keptCount + newCount - stableCount);
+    int slot = 0;
+    block = 0;
+    for (int oldIndex = 0; oldIndex < oldToNew.length; oldIndex++)
+    {
+      final int newIndex = oldToNew[oldIndex];
+      if (newIndex != -1)
+      {
+        if (stable[newIndex])
+        {
+          slot += blockEnds[block];
+          blockEnds[block++] = slot;
+        }
+        oldSlots[oldIndex] = slot;
+        slotCounter.add(slot++, 1);
+      }
+    }
+    blockEnds[block] = slot + blockEnds[block];
+
+    // Each block is filled from its end
+    block = stableCount;
+    for (int newIndex = newCount - 1; newIndex >= 0; newIndex--)
+    {
+      final int oldIndex = newToOld[newIndex];
+      if (oldIndex != -1 && stable[newIndex])
+      {
+        block--;
+        continue;
+      }
+
+      final int targetSlot = --blockEnds[block];
+      if (oldIndex != -1)
+      {
+        final int fromPosition = slotCounter.countBefore(oldSlots[oldIndex]);
+        slotCounter.add(oldSlots[oldIndex], -1);
+        final int toPosition = slotCounter.countBefore(targetSlot);
+        if (fromPosition != toPosition)
+        {
+          updates.add(KeyedDiffUpdates.MOVED, fromPosition, toPosition);
+        }
+      }
+      else
+      {
+        updates.add(KeyedDiffUpdates.INSERTED, slotCounter.countBefore(targetSlot), 0);
+      }
+      slotCounter.add(targetSlot, 1);
+    }
+  }
+
+}
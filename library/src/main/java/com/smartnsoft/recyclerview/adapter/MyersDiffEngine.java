@@ -0,0 +1,113 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.adapter;
+
+import android.support.annotation.Nullable;
+import android.support.v7.util.DiffUtil;
+import android.support.v7.util.ListUpdateCallback;
+
+import com.smartnsoft.recyclerview.adapter.DiffUtilSmartRecyclerAdapter.SmartDiffUtilCallback;
+
+/**
+ * The default {@link SmartDiffEngine}, which relies on the {@link DiffUtil} implementation of the Myers difference algorithm.
+ * It runs in O(N + D^2) where D is the length of the edit script, and it supports wrappers which share the same identifier.
+ *
+ * @since 2026.10.16
+ */
+public final class MyersDiffEngine
+    implements SmartDiffEngine
+{
+
+  /**
+   * Exposes a window of a {@link SmartDiffUtilCallback}, both lists starting at the same offset, so that the diff only runs on this window.
+   */
+  private static final class WindowDiffUtilCallback
+      extends DiffUtil.Callback
+  {
+
+    private final SmartDiffUtilCallback callback;
+
+    private final int offset;
+
+    private final int oldCount;
+
+    private final int newCount;
+
+    WindowDiffUtilCallback(SmartDiffUtilCallback callback, int offset, int oldCount, int newCount)
+    {
+      this.callback = callback;
+      this.offset = offset;
+      this.oldCount = oldCount;
+      this.newCount = newCount;
+    }
+
+    @Override
+    public int getOldListSize()
+    {
+      return oldCount;
+    }
+
+    @Override
+    public int getNewListSize()
+    {
+      return newCount;
+    }
+
+    @Override
+    public boolean areItemsTheSame(int oldItemPosition, int newItemPosition)
+    {
+      return callback.areItemsTheSame(offset + oldItemPosition, offset + newItemPosition);
+    }
+
+    @Override
+    public boolean areContentsTheSame(int oldItemPosition, int newItemPosition)
+    {
+      return callback.areContentsTheSame(offset + oldItemPosition, offset + newItemPosition);
+    }
+
+    @Nullable
+    @Override
+    public Object getChangePayload(int oldItemPosition, int newItemPosition)
+    {
+      return callback.getChangePayload(offset + oldItemPosition, offset + newItemPosition);
+    }
+
+  }
+
+  @Override
+  public DiffUpdates calculateDiff(SmartDiffUtilCallback callback, int offset, int oldCount, int newCount,
+      boolean detectMoves)
+  {
+    final DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(new WindowDiffUtilCallback(callback, offset, oldCount, newCount), detectMoves);
+
+    return new DiffUpdates()
+    {
+      @Override
+      public void dispatchUpdatesTo(ListUpdateCallback updateCallback)
+      {
+        diffResult.dispatchUpdatesTo(updateCallback);
+      }
+    };
+  }
+
+}
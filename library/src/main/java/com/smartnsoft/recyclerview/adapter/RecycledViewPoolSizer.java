@@ -0,0 +1,93 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.adapter;
+
+import android.support.v7.widget.RecyclerView;
+import android.support.v7.widget.RecyclerView.RecycledViewPool;
+import android.util.SparseIntArray;
+
+/**
+ * Watches the number of attached view holders per view type, and raises the {@link RecycledViewPool} size of a view type to its peak
+ * on-screen count, so that the view holders which leave the screen during a scroll can all be recycled instead of being inflated again.
+ * The sizes of all the view types are capped by a total number of view holders.
+ *
+ * @see SmartRecyclerAdapter#setRecycledViewPoolSizingEnabled(boolean, int)
+ * @since 2026.10.16
+ */
+final class RecycledViewPoolSizer
+{
+
+  private final int maximumRecycledViews;
+
+  private final SparseIntArray attachedCounts = new SparseIntArray();
+
+  private final SparseIntArray peakAttachedCounts = new SparseIntArray();
+
+  private final SparseIntArray recycledViewPoolSizes = new SparseIntArray();
+
+  private int totalRecycledViewPoolSize;
+
+  RecycledViewPoolSizer(int maximumRecycledViews)
+  {
+    this.maximumRecycledViews = maximumRecycledViews;
+  }
+
+  void onViewAttachedToWindow(RecyclerView recyclerView, int viewType)
+  {
+    final int attachedCount = attachedCounts.get(viewType) + 1;
+    attachedCounts.put(viewType, attachedCount);
+
+    if (attachedCount > peakAttachedCounts.get(viewType))
+    {
+      peakAttachedCounts.put(viewType, attachedCount);
+      resize(recyclerView, viewType, attachedCount);
+    }
+  }
+
+  void onViewDetachedFromWindow(int viewType)
+  {
+    attachedCounts.put(viewType, Math.max(0, attachedCounts.get(viewType) - 1));
+  }
+
+  /**
+   * @return a copy of the pool sizes which have been set, by view type
+   */
+  SparseIntArray getRecycledViewPoolSizes()
+  {
+    return recycledViewPoolSizes.clone();
+  }
+
+  private void resize(RecyclerView recyclerView, int viewType, int peakAttachedCount)
+  {
+    final int currentSize = recycledViewPoolSizes.get(viewType, SmartRecyclerAdapter.DEFAULT_MAX_RECYCLED_VIEWS);
+    final int availableSize = maximumRecycledViews - (totalRecycledViewPoolSize - recycledViewPoolSizes.get(viewType, 0));
+    final int size = Math.max(SmartRecyclerAdapter.DEFAULT_MAX_RECYCLED_VIEWS, Math.min(peakAttachedCount, availableSize));
+    if (size > currentSize)
+    {
+      recyclerView.getRecycledViewPool().setMaxRecycledViews(viewType, size);
+      totalRecycledViewPoolSize += size - recycledViewPoolSizes.get(viewType, 0);
+      recycledViewPoolSizes.put(viewType, size);
+    }
+  }
+
+}
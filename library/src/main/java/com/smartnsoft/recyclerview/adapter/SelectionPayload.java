@@ -0,0 +1,65 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.adapter;
+
+import java.util.List;
+
+import com.smartnsoft.recyclerview.attributes.SmartRecyclerAttributes;
+
+/**
+ * The payload of an item whose selected state only has changed. The holders receiving it are not fully bound again, but have their
+ * {@link SmartRecyclerAttributes#onSelectionChanged(boolean)} method invoked with the new state, which also prevents the default change
+ * animation.
+ *
+ * @since 2026.10.16
+ */
+public final class SelectionPayload
+{
+
+  public static final SelectionPayload INSTANCE = new SelectionPayload();
+
+  private SelectionPayload()
+  {
+  }
+
+  /**
+   * @return {@code true} if all the payloads are selection payloads, which requires at least one payload
+   */
+  static boolean containsOnlySelectionPayloads(List<Object> payloads)
+  {
+    if (payloads.isEmpty())
+    {
+      return false;
+    }
+    for (int index = 0; index < payloads.size(); index++)
+    {
+      if (payloads.get(index) != SelectionPayload.INSTANCE)
+      {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+}
@@ -0,0 +1,248 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.adapter;
+
+import android.util.SparseArray;
+
+/**
+ * Records the durations of the {@code onCreateViewHolder()} and {@code onBindViewHolder()} calls of a {@link SmartRecyclerAdapter} per view
+ * type, as fixed-bucket histograms which do not allocate anything per sample, and counts the binds.
+ * It MUST be used on the UI thread.
+ *
+ * @see SmartRecyclerAdapter#setMetricsEnabled(boolean)
+ * @since 2026.10.16
+ */
+public final class SmartAdapterMetrics
+{
+
+  /**
+   * An immutable copy of the metrics, taken by {@link SmartAdapterMetrics#snapshot()}.
+   */
+  public static final class Snapshot
+  {
+
+    private final SparseArray<long[]> createHistograms;
+
+    private final SparseArray<long[]> bindHistograms;
+
+    private final long bindCount;
+
+    private final long fullBindCount;
+
+    private final long payloadBindCount;
+
+    private final long skippedBindCount;
+
+    private Snapshot(SparseArray<long[]> createHistograms, SparseArray<long[]> bindHistograms, long bindCount,
+        long fullBindCount, long payloadBindCount, long skippedBindCount)
+    {
+      this.createHistograms = createHistograms;
+      this.bindHistograms = bindHistograms;
+      this.bindCount = bindCount;
+      this.fullBindCount = fullBindCount;
+      this.payloadBindCount = payloadBindCount;
+      this.skippedBindCount = skippedBindCount;
+    }
+
+    /**
+     * @return the view types which have at least one sample, in ascending order
+     */
+    public int[] getViewTypes()
+    {
+      final SparseArray<Boolean> viewTypes = new SparseArray<>();
+      for (int index = 0; index < createHistograms.size(); index++)
+      {
+        viewTypes.put(createHistograms.keyAt(index), Boolean.TRUE);
+      }
+      for (int index = 0; index < bindHistograms.size(); index++)
+      {
+        viewTypes.put(bindHistograms.keyAt(index), Boolean.TRUE);
+      }
+
+      final int[] result = new int[viewTypes.size()];
+      for (int index = 0; index < result.length; index++)
+      {
+        result[index] = viewTypes.keyAt(index);
+      }
+
+      return result;
+    }
+
+    /**
+     * @param viewType a view type
+     * @return the number of {@code onCreateViewHolder()} calls per bucket, the bucket {@code n} counting the durations up to
+     * {@link SmartAdapterMetrics#BUCKET_UPPER_BOUNDS_NANOS}{@code [n]}, and the last bucket the longer ones
+     */
+    public long[] getCreateHistogram(int viewType)
+    {
+      return Snapshot.copyOrEmpty(createHistograms.get(viewType));
+    }
+
+    /**
+     * @param viewType a view type
+     * @return the number of {@code onBindViewHolder()} calls per bucket
+     * @see #getCreateHistogram(int)
+     */
+    public long[] getBindHistogram(int viewType)
+    {
+      return Snapshot.copyOrEmpty(bindHistograms.get(viewType));
+    }
+
+    /**
+     * @return the number of {@code onBindViewHolder()} calls
+     */
+    public long getBindCount()
+    {
+      return bindCount;
+    }
+
+    /**
+     * @return the number of binds which have updated the whole business object
+     */
+    public long getFullBindCount()
+    {
+      return fullBindCount;
+    }
+
+    /**
+     * @return the number of {@code onBindViewHolder()} calls with payloads
+     */
+    public long getPayloadBindCount()
+    {
+      return payloadBindCount;
+    }
+
+    /**
+     * @return the number of binds which have been skipped because the holder already displayed the same content
+     */
+    public long getSkippedBindCount()
+    {
+      return skippedBindCount;
+    }
+
+    private static long[] copyOrEmpty(long[] histogram)
+    {
+      return histogram == null ? new long[SmartAdapterMetrics.BUCKET_UPPER_BOUNDS_NANOS.length + 1] : histogram.clone();
+    }
+
+  }
+
+  /**
+   * The upper bounds of the histogram buckets, from 0.1 ms to 32 ms, a last bucket counting the longer durations.
+   */
+  public static final long[] BUCKET_UPPER_BOUNDS_NANOS = { 100000L, 250000L, 500000L, 1000000L, 2000000L, 4000000L, 8000000L, 16000000L, 32000000L };
+
+  private final SparseArray<long[]> createHistograms = new SparseArray<>();
+
+  private final SparseArray<long[]> bindHistograms = new SparseArray<>();
+
+  private long bindCount;
+
+  private long fullBindCount;
+
+  private long payloadBindCount;
+
+  private long skippedBindCount;
+
+  SmartAdapterMetrics()
+  {
+  }
+
+  /**
+   * @return a copy of the current metrics
+   */
+  public Snapshot snapshot()
+  {
+    return new Snapshot(SmartAdapterMetrics.copy(createHistograms), SmartAdapterMetrics.copy(bindHistograms), bindCount, fullBindCount, payloadBindCount, skippedBindCount);
+  }
+
+  /**
+   * Clears all the metrics.
+   */
+  public void reset()
+  {
+    createHistograms.clear();
+    bindHistograms.clear();
+    bindCount = 0;
+    fullBindCount = 0;
+    payloadBindCount = 0;
+    skippedBindCount = 0;
+  }
+
+  void recordCreate(int viewType, long durationNanos)
+  {
+    SmartAdapterMetrics.record(createHistograms, viewType, durationNanos);
+  }
+
+  void recordBind(int viewType, boolean hasPayloads, long durationNanos)
+  {
+    SmartAdapterMetrics.record(bindHistograms, viewType, durationNanos);
+    bindCount++;
+    if (hasPayloads)
+    {
+      payloadBindCount++;
+    }
+  }
+
+  void recordBusinessObjectUpdate(boolean updated)
+  {
+    if (updated)
+    {
+      fullBindCount++;
+    }
+    else
+    {
+      skippedBindCount++;
+    }
+  }
+
+  private static void record(SparseArray<long[]> histograms, int viewType, long durationNanos)
+  {
+    long[] histogram = histograms.get(viewType);
+    if (histogram == null)
+    {
+      // Only allocated once per view type
+      histogram = new long[SmartAdapterMetrics.BUCKET_UPPER_BOUNDS_NANOS.length + 1];
+      histograms.put(viewType, histogram);
+    }
+
+    int bucket = 0;
+    while (bucket < SmartAdapterMetrics.BUCKET_UPPER_BOUNDS_NANOS.length && durationNanos > SmartAdapterMetrics.BUCKET_UPPER_BOUNDS_NANOS[bucket])
+    {
+      bucket++;
+    }
+    histogram[bucket]++;
+  }
+
+  private static SparseArray<long[]> copy(SparseArray<long[]> histograms)
+  {
+    final SparseArray<long[]> copy = new SparseArray<>(histograms.size());
+    for (int index = 0; index < histograms.size(); index++)
+    {
+      copy.append(histograms.keyAt(index), histograms.valueAt(index).clone());
+    }
+
+    return copy;
+  }
+
+}
@@ -0,0 +1,69 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.adapter;
+
+import android.support.v7.util.ListUpdateCallback;
+
+import com.smartnsoft.recyclerview.adapter.DiffUtilSmartRecyclerAdapter.SmartDiffUtilCallback;
+
+/**
+ * The algorithm which computes the updates between the old and the new wrappers of a {@link DiffUtilSmartRecyclerAdapter}.
+ *
+ * @see MyersDiffEngine
+ * @see KeyedDiffEngine
+ * @since 2026.10.16
+ */
+public interface SmartDiffEngine
+{
+
+  /**
+   * The updates computed by a {@link SmartDiffEngine}.
+   */
+  interface DiffUpdates
+  {
+
+    /**
+     * Dispatches the updates to the given callback, on the main thread. The change payloads are requested from the
+     * {@link SmartDiffUtilCallback} at that time.
+     *
+     * @param updateCallback the callback which receives the updates, whose positions are relative to the start of the window
+     */
+    void dispatchUpdatesTo(ListUpdateCallback updateCallback);
+
+  }
+
+  /**
+   * Computes the updates which turn a window of the old list into the same window of the new list.
+   * This method may be invoked from a background thread.
+   *
+   * @param callback    the callback which compares the old and the new wrappers
+   * @param offset      the position where the window starts, in both lists
+   * @param oldCount    the number of old items in the window
+   * @param newCount    the number of new items in the window
+   * @param detectMoves {@code false} in order to represent the moved items as removed and inserted items
+   * @return the updates, which are dispatched later on the main thread
+   */
+  DiffUpdates calculateDiff(SmartDiffUtilCallback callback, int offset, int oldCount, int newCount,
+      boolean detectMoves);
+
+}
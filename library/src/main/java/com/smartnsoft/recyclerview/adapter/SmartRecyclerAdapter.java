@@ -23,7 +23,12 @@
 package com.smartnsoft.recyclerview.adapter;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import android.annotation.TargetApi;
@@ -36,11 +41,14 @@ import android.support.v7.widget.LinearLayoutManager;
 import android.support.v7.widget.RecyclerView;
 import android.support.v7.widget.RecyclerView.Adapter;
 import android.util.SparseArray;
+import android.util.SparseIntArray;
 import android.view.Display;
 import android.view.View;
 import android.view.ViewGroup;
 
 import com.smartnsoft.recyclerview.attributes.SmartRecyclerAttributes;
+import com.smartnsoft.recyclerview.recyclerview.SmartRecycledViewPool;
+import com.smartnsoft.recyclerview.util.LongIntHashMap;
 import com.smartnsoft.recyclerview.wrapper.SmartRecyclerViewWrapper;
 
 /**
@@ -73,8 +81,12 @@ public class SmartRecyclerAdapter
      */
     REMOVE_OLD_DATA_AT_ONCE,
     /**
-     * Removes items one by one to benefit from single deletion animation
+     * Removes every items through {@link #removeAll()}, exactly like {@link #REMOVE_OLD_DATA_AT_ONCE}: the single range notification already
+     * runs the deletion animation of each visible item
+     *
+     * @deprecated use {@link #REMOVE_OLD_DATA_AT_ONCE} instead, which behaves the same way
      */
+    @Deprecated
     REMOVE_OLD_DATA_ONE_BY_ONE,
     /**
      * Removes duplicates in the new list before adding them
@@ -181,8 +193,69 @@ public class SmartRecyclerAdapter
 
   }
 
+  /**
+   * The key of a wrapper, made of the fields which are compared depending on the {@link ComparisonType}.
+   */
+  private static final class WrapperKey
+  {
+
+    private final long id;
+
+    private final Class<?> businessObjectType;
+
+    private final Class<?> wrapperType;
+
+    WrapperKey(SmartRecyclerViewWrapper<?> wrapper, ComparisonType comparisonType)
+    {
+      final Object businessObject = wrapper.getBusinessObject();
+      final boolean compareBusinessObjectType = comparisonType == ComparisonType.BUSINESS_OBJECT_TYPE || comparisonType == ComparisonType.BUSINESS_OBJECT_AND_WRAPPER_TYPE;
+      final boolean compareWrapperType = comparisonType == ComparisonType.WRAPPER_TYPE || comparisonType == ComparisonType.BUSINESS_OBJECT_AND_WRAPPER_TYPE;
+
+      this.id = wrapper.getId();
+      this.businessObjectType = compareBusinessObjectType && businessObject != null ? businessObject.getClass() : null;
+      this.wrapperType = compareWrapperType ? wrapper.getClass() : null;
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+      if (this == object)
+      {
+        return true;
+      }
+      if (object instanceof WrapperKey == false)
+      {
+        return false;
+      }
+
+      final WrapperKey other = (WrapperKey) object;
+      return id == other.id && businessObjectType == other.businessObjectType && wrapperType == other.wrapperType;
+    }
+
+    @Override
+    public int hashCode()
+    {
+      int result = (int) (id ^ (id >>> 32));
+      result = 31 * result + (businessObjectType != null ? businessObjectType.hashCode() : 0);
+      result = 31 * result + (wrapperType != null ? wrapperType.hashCode() : 0);
+      return result;
+    }
+
+  }
+
+  /**
+   * The default maximum number of view holders per view type in a {@link RecyclerView.RecycledViewPool}.
+   */
+  static final int DEFAULT_MAX_RECYCLED_VIEWS = 5;
+
   protected final Context context;
 
+  /**
+   * The wrappers displayed by the adapter.
+   * Subclasses which modify this list directly must call {@link #invalidateIdIndex()} afterwards. Otherwise, the index detects that the list
+   * has been replaced or resized, or that an identifier is not at its indexed position, and is rebuilt, but it cannot detect a wrapper
+   * replaced in place by one with a new identifier.
+   */
   protected List<SmartRecyclerViewWrapper<?>> wrappers = new ArrayList<>();
 
   private final SparseArray<SmartRecyclerViewWrapper<?>> viewTypeAttributesDictionary = new SparseArray<>();
@@ -193,6 +266,33 @@ public class SmartRecyclerAdapter
 
   private int selectedPositionItem = -1;
 
+  /**
+   * A view inflated ahead of time by a {@link ViewHolderPrewarmer}, which the next {@link #onCreateViewHolder(ViewGroup, int)} call uses.
+   */
+  private View prewarmedItemView;
+
+  private RecyclerView recyclerView;
+
+  private RecycledViewPoolSizer recycledViewPoolSizer;
+
+  private SmartRecycledViewPool smartRecycledViewPool;
+
+  private SmartAdapterMetrics metrics;
+
+  private LongIntHashMap idIndex;
+
+  private boolean isIdIndexValid;
+
+  private boolean hasDuplicateIds;
+
+  /**
+   * The list and the number of wrappers the index has been built for, so that a direct modification of the {@link #wrappers} by a subclass
+   * which does not call {@link #invalidateIdIndex()} is detected.
+   */
+  private List<SmartRecyclerViewWrapper<?>> indexedWrappers;
+
+  private int indexedWrapperCount;
+
   public SmartRecyclerAdapter(Context context)
   {
     this(context, false);
@@ -207,25 +307,92 @@ public class SmartRecyclerAdapter
   @Override
   public SmartRecyclerAttributes onCreateViewHolder(ViewGroup viewGroup, int viewType)
   {
-    final SmartRecyclerViewWrapper wrapper = viewTypeAttributesDictionary.get(viewType);
-    final View view = wrapper.getNewView(viewGroup, context);
+    final long startNanos = metrics == null ? 0 : System.nanoTime();
+    final SmartRecyclerViewWrapper wrapper = viewTypeAttributesDictionary.get(viewType, smartRecycledViewPool == null ? null : smartRecycledViewPool.getViewTypeWrapper(viewType));
+    final View view = prewarmedItemView != null ? prewarmedItemView : wrapper.getNewView(viewGroup, context);
     final SmartRecyclerAttributes viewAttributes = wrapper.getViewAttributes(view);
     viewAttributes.setIntentFilterCategory(intentFilterCategory);
 
+    if (metrics != null)
+    {
+      metrics.recordCreate(viewType, System.nanoTime() - startNanos);
+    }
+
     return viewAttributes;
   }
 
   @Override
   public void onBindViewHolder(SmartRecyclerAttributes smartRecyclerAttributes, int position)
   {
-    final Object businessObject = wrappers.get(position).getBusinessObject();
-    smartRecyclerAttributes.update(businessObject, selectedPositionItem == position);
+    bindWrapper(smartRecyclerAttributes, wrappers.get(position), isItemSelectedAt(position));
+  }
+
+  /**
+   * Measures the bind when the {@link #setMetricsEnabled(boolean) metrics} are enabled, the bind itself being performed by
+   * {@link #onBindViewHolderWithPayloads(SmartRecyclerAttributes, int, List)}, which subclasses should override instead of this method.
+   */
+  @Override
+  public void onBindViewHolder(SmartRecyclerAttributes smartRecyclerAttributes, int position, List<Object> payloads)
+  {
+    if (metrics == null)
+    {
+      onBindViewHolderWithPayloads(smartRecyclerAttributes, position, payloads);
+    }
+    else
+    {
+      final long startNanos = System.nanoTime();
+      onBindViewHolderWithPayloads(smartRecyclerAttributes, position, payloads);
+      metrics.recordBind(smartRecyclerAttributes.getItemViewType(), payloads.isEmpty() == false, System.nanoTime() - startNanos);
+    }
   }
 
   @Override
   public void onViewRecycled(SmartRecyclerAttributes holder)
   {
     super.onViewRecycled(holder);
+
+    holder.onRecycled();
+  }
+
+  @Override
+  public void onAttachedToRecyclerView(RecyclerView recyclerView)
+  {
+    super.onAttachedToRecyclerView(recyclerView);
+
+    this.recyclerView = recyclerView;
+  }
+
+  @Override
+  public void onDetachedFromRecyclerView(RecyclerView recyclerView)
+  {
+    super.onDetachedFromRecyclerView(recyclerView);
+
+    if (this.recyclerView == recyclerView)
+    {
+      this.recyclerView = null;
+    }
+  }
+
+  @Override
+  public void onViewAttachedToWindow(SmartRecyclerAttributes holder)
+  {
+    super.onViewAttachedToWindow(holder);
+
+    if (recycledViewPoolSizer != null && recyclerView != null)
+    {
+      recycledViewPoolSizer.onViewAttachedToWindow(recyclerView, holder.getItemViewType());
+    }
+  }
+
+  @Override
+  public void onViewDetachedFromWindow(SmartRecyclerAttributes holder)
+  {
+    super.onViewDetachedFromWindow(holder);
+
+    if (recycledViewPoolSizer != null)
+    {
+      recycledViewPoolSizer.onViewDetachedFromWindow(holder.getItemViewType());
+    }
   }
 
   /**
@@ -265,14 +432,11 @@ public class SmartRecyclerAdapter
   public void setWrappers(List<? extends SmartRecyclerViewWrapper<?>> wrappers)
   {
     this.wrappers = new ArrayList<>(wrappers);
+    invalidateIdIndex();
 
     for (SmartRecyclerViewWrapper<?> wrapper : wrappers)
     {
-      final int wrapperType = wrapper.getType();
-      if (viewTypeAttributesDictionary.get(wrapperType) == null)
-      {
-        viewTypeAttributesDictionary.append(wrapperType, wrapper);
-      }
+      registerViewType(wrapper);
     }
     if (shouldNotifyBeCalled)
     {
@@ -290,8 +454,68 @@ public class SmartRecyclerAdapter
   {
     final int lastSelectedPositionItem = selectedPositionItem;
     this.selectedPositionItem = position;
-    notifyItemChanged(position);
-    notifyItemChanged(lastSelectedPositionItem);
+    if (position == lastSelectedPositionItem)
+    {
+      return;
+    }
+    if (position != -1)
+    {
+      notifyItemChanged(position, SelectionPayload.INSTANCE);
+    }
+    if (lastSelectedPositionItem != -1)
+    {
+      notifyItemChanged(lastSelectedPositionItem, SelectionPayload.INSTANCE);
+    }
+  }
+
+  /**
+   * @param position the position of an item
+   * @return whether the item at the given position is selected, which is the case of the {@link #setSelectedPositionItem(int) selected position}
+   * by default
+   */
+  protected boolean isItemSelectedAt(int position)
+  {
+    return selectedPositionItem == position;
+  }
+
+  /**
+   * Binds the selected state of the item to the holder, when it has been notified with a {@link SelectionPayload}.
+   *
+   * @return {@code true} if the holder displays the selected state, {@code false} if it requires a full bind
+   * @see SmartRecyclerAttributes#updateSelectedState(boolean)
+   */
+  protected final boolean bindSelectedState(SmartRecyclerAttributes smartRecyclerAttributes, int position)
+  {
+    return smartRecyclerAttributes.updateSelectedState(isItemSelectedAt(position));
+  }
+
+  @SuppressWarnings("unchecked")
+  protected final void bindWrapper(SmartRecyclerAttributes smartRecyclerAttributes, SmartRecyclerViewWrapper<?> wrapper,
+      boolean isSelected)
+  {
+    final boolean updated = smartRecyclerAttributes.update(wrapper.getId(), wrapper.getContentVersion(), wrapper.getBusinessObject(), isSelected);
+    if (metrics != null)
+    {
+      metrics.recordBusinessObjectUpdate(updated);
+    }
+  }
+
+  /**
+   * Binds the holder, with the payloads of the updates notified since its last bind. Only {@link SelectionPayload} is handled by default, the
+   * other payloads triggering a full bind.
+   *
+   * @param smartRecyclerAttributes the holder to bind
+   * @param position                the position of the item
+   * @param payloads                the payloads, which may be empty
+   * @see RecyclerView.Adapter#onBindViewHolder(RecyclerView.ViewHolder, int, List)
+   */
+  protected void onBindViewHolderWithPayloads(SmartRecyclerAttributes smartRecyclerAttributes, int position,
+      List<Object> payloads)
+  {
+    if (SelectionPayload.containsOnlySelectionPayloads(payloads) == false || bindSelectedState(smartRecyclerAttributes, position) == false)
+    {
+      onBindViewHolder(smartRecyclerAttributes, position);
+    }
   }
 
   public int getSpanSizeForPosition(int position)
@@ -309,6 +533,127 @@ public class SmartRecyclerAdapter
     this.intentFilterCategory = intentFilterCategory;
   }
 
+  /**
+   * Creates up to {@code countPerViewType} view holders for each view type of the current wrappers, and puts them into the
+   * {@link RecyclerView.RecycledViewPool} of the given {@link RecyclerView}, so that the first layout and the first scroll do not inflate them.
+   * One view holder is created each time the main thread is idle, which avoids delaying the frames.
+   * It MUST be used on the UI thread, after the wrappers have been set and before the first layout.
+   *
+   * @param recyclerView     the {@link RecyclerView} the adapter is attached to
+   * @param countPerViewType the number of view holders to keep in the pool for each view type
+   */
+  @UiThread
+  public void prewarmViewHolders(RecyclerView recyclerView, int countPerViewType)
+  {
+    createViewHolderPrewarmer(recyclerView, countPerViewType).startOnIdleFrames();
+  }
+
+  /**
+   * Works like {@link #prewarmViewHolders(RecyclerView, int)}, but inflates the views on the given {@link Executor}, the view holders being put into
+   * the pool on the main thread. The layouts of the wrappers must support being inflated off the main thread.
+   * It MUST be used on the UI thread, after the wrappers have been set and before the first layout.
+   *
+   * @param recyclerView     the {@link RecyclerView} the adapter is attached to
+   * @param countPerViewType the number of view holders to keep in the pool for each view type
+   * @param executor         the executor which inflates the views
+   */
+  @UiThread
+  public void prewarmViewHolders(RecyclerView recyclerView, int countPerViewType, Executor executor)
+  {
+    createViewHolderPrewarmer(recyclerView, countPerViewType).startOnExecutor(executor);
+  }
+
+  /**
+   * Enables the recording of the create and bind durations per view type, and of the bind counts.
+   *
+   * @param enabled whether the metrics are recorded
+   * @see #getMetrics()
+   */
+  public void setMetricsEnabled(boolean enabled)
+  {
+    if (enabled == false)
+    {
+      metrics = null;
+    }
+    else if (metrics == null)
+    {
+      metrics = new SmartAdapterMetrics();
+    }
+  }
+
+  /**
+   * @return the metrics, which can be snapshot and reset, or {@code null} if they are not {@link #setMetricsEnabled(boolean) enabled}
+   */
+  public SmartAdapterMetrics getMetrics()
+  {
+    return metrics;
+  }
+
+  /**
+   * Shares the view types registry of the given pool with the other adapters which use it, typically the carousels nested in a list: the view
+   * types of the wrappers are registered in it. The pool itself MUST be set on the {@link RecyclerView} the adapter is attached to, which the
+   * {@link com.smartnsoft.recyclerview.wrapper.CarouselRecyclerViewWrapper} does for the carousels.
+   *
+   * @param smartRecycledViewPool the shared pool, or {@code null} in order to use the own pool of the {@link RecyclerView}
+   */
+  public void setSmartRecycledViewPool(SmartRecycledViewPool smartRecycledViewPool)
+  {
+    this.smartRecycledViewPool = smartRecycledViewPool;
+    if (smartRecycledViewPool != null)
+    {
+      for (int index = 0; index < viewTypeAttributesDictionary.size(); index++)
+      {
+        smartRecycledViewPool.registerViewType(viewTypeAttributesDictionary.valueAt(index));
+      }
+    }
+  }
+
+  public SmartRecycledViewPool getSmartRecycledViewPool()
+  {
+    return smartRecycledViewPool;
+  }
+
+  /**
+   * When enabled, the {@link RecyclerView.RecycledViewPool} size of each view type follows the peak number of items of this type displayed at
+   * once, so that a view type which fills the screen, like small grid tiles, does not keep on being inflated once the default limit of
+   * {@value #DEFAULT_MAX_RECYCLED_VIEWS} view holders is exceeded. The sizes only grow, and are never set below the default limit.
+   * Subclasses which override {@link #onViewAttachedToWindow(SmartRecyclerAttributes)} or
+   * {@link #onViewDetachedFromWindow(SmartRecyclerAttributes)} must call the super methods.
+   *
+   * @param enabled              whether the pool sizes are adjusted
+   * @param maximumRecycledViews the maximum total number of view holders of all the view types, which bounds the memory kept by the pool
+   * @see #getRecycledViewPoolSizes()
+   */
+  public void setRecycledViewPoolSizingEnabled(boolean enabled, int maximumRecycledViews)
+  {
+    recycledViewPoolSizer = enabled ? new RecycledViewPoolSizer(maximumRecycledViews) : null;
+  }
+
+  /**
+   * @return the {@link RecyclerView.RecycledViewPool} sizes set by the {@link #setRecycledViewPoolSizingEnabled(boolean, int) pool sizing},
+   * by view type, the view types which are not present keeping the default size
+   */
+  public SparseIntArray getRecycledViewPoolSizes()
+  {
+    return recycledViewPoolSizer == null ? new SparseIntArray() : recycledViewPoolSizer.getRecycledViewPoolSizes();
+  }
+
+  /**
+   * Creates a view holder for a view which has been inflated ahead of time.
+   */
+  SmartRecyclerAttributes createViewHolder(RecyclerView recyclerView, int viewType, View itemView)
+  {
+    prewarmedItemView = itemView;
+    try
+    {
+      return createViewHolder(recyclerView, viewType);
+    }
+    finally
+    {
+      prewarmedItemView = null;
+    }
+  }
+
   /**
    * Removes only a single item in the adapter and call notifyItemRemoved
    * It MUST be used on the UI thread.
@@ -318,7 +663,9 @@ public class SmartRecyclerAdapter
   @UiThread
   public final void removeItem(final int position)
   {
-    wrappers.remove(position);
+    final SmartRecyclerViewWrapper<?> wrapper = wrappers.remove(position);
+    onWrapperRemovedFromIdIndex(position, wrapper);
+    onWrappersChanged();
     if (shouldNotifyBeCalled)
     {
       notifyItemRemoved(position);
@@ -334,6 +681,15 @@ public class SmartRecyclerAdapter
   {
     final int initialSize = this.wrappers.size();
     wrappers.clear();
+    if (idIndex != null)
+    {
+      idIndex.clear();
+      isIdIndexValid = true;
+      hasDuplicateIds = false;
+      indexedWrappers = wrappers;
+      indexedWrapperCount = 0;
+    }
+    onWrappersChanged();
     if (shouldNotifyBeCalled)
     {
       notifyItemRangeRemoved(0, initialSize);
@@ -451,61 +807,78 @@ public class SmartRecyclerAdapter
       switch (removeType)
       {
         case REMOVE_OLD_DATA_AT_ONCE:
-          removeAll();
-          break;
         case REMOVE_OLD_DATA_ONE_BY_ONE:
-          final List<SmartRecyclerViewWrapper<?>> oldWrapperToRemove = new ArrayList<>();
-          for (int index = 0; index < wrappers.size(); index++)
-          {
-            oldWrapperToRemove.add(wrappers.get(index));
-          }
-          for (final SmartRecyclerViewWrapper<?> smartRecyclerViewWrapper : oldWrapperToRemove)
-          {
-            removeItem(getItemPosition(smartRecyclerViewWrapper.getId(),
-                smartRecyclerViewWrapper.getBusinessObject() != null ? smartRecyclerViewWrapper.getBusinessObject().getClass() : null,
-                smartRecyclerViewWrapper.getClass(), comparisonType));
-          }
+          // The item animator runs the removal animation of each visible item from the single range notification
+          removeAll();
           break;
         case IGNORE_NEW_DUPLICATES:
-          final List<SmartRecyclerViewWrapper<?>> wrapperToRemove = new ArrayList<>();
+        {
+          final Map<WrapperKey, Integer> existingKeys = indexWrapperKeys(comparisonType);
+          final Set<SmartRecyclerViewWrapper<?>> wrapperToRemove = new HashSet<>();
           for (SmartRecyclerViewWrapper<?> item : newWrappers)
           {
-            if (contains(item.getId(), item.getBusinessObject() != null ? item.getBusinessObject().getClass() : null,
-                item.getClass(), comparisonType))
+            if (item.getId() != -1 && existingKeys.containsKey(new WrapperKey(item, comparisonType)))
             {
               wrapperToRemove.add(item);
             }
           }
           newWrappers.removeAll(wrapperToRemove);
           break;
+        }
         case REMOVE_OLD_DUPLICATES:
+        {
+          // Each new wrapper removes the first old wrapper with the same key which has not been removed yet
+          final Map<WrapperKey, int[]> newKeysCount = new HashMap<>();
           for (final SmartRecyclerViewWrapper<?> wrapper : newWrappers)
           {
-            final long businessObjectId = wrapper.getId();
-            final Class<?> businessObjectType = wrapper.getBusinessObject() != null ? wrapper.getBusinessObject().getClass() : null;
-            final Class<? extends SmartRecyclerViewWrapper> wrapperType = wrapper.getClass();
-            if (contains(businessObjectId, businessObjectType, wrapperType, comparisonType))
+            if (wrapper.getId() != -1)
             {
-              removeItem(getItemPosition(businessObjectId, businessObjectType, wrapperType, comparisonType));
+              final WrapperKey key = new WrapperKey(wrapper, comparisonType);
+              final int[] count = newKeysCount.get(key);
+              if (count == null)
+              {
+                newKeysCount.put(key, new int[] { 1 });
+              }
+              else
+              {
+                count[0]++;
+              }
             }
           }
+
+          final boolean[] wrappersToRemove = new boolean[wrappers.size()];
+          for (int index = 0; index < wrappers.size() && newKeysCount.isEmpty() == false; index++)
+          {
+            final WrapperKey key = new WrapperKey(wrappers.get(index), comparisonType);
+            final int[] count = newKeysCount.get(key);
+            if (count != null)
+            {
+              wrappersToRemove[index] = true;
+              if (--count[0] == 0)
+              {
+                newKeysCount.remove(key);
+              }
+            }
+          }
+          removeItems(wrappersToRemove);
           break;
+        }
         case REPLACE_DUPLICATES:
-          final List<SmartRecyclerViewWrapper<?>> replacedWrappersToRemove = new ArrayList<>();
+        {
+          final Map<WrapperKey, Integer> existingKeys = indexWrapperKeys(comparisonType);
+          final Set<SmartRecyclerViewWrapper<?>> replacedWrappersToRemove = new HashSet<>();
           for (final SmartRecyclerViewWrapper<?> wrapper : newWrappers)
           {
-            final long businessObjectId = wrapper.getId();
-            final Class<?> businessObjectType = wrapper.getBusinessObject() != null ? wrapper.getBusinessObject().getClass() : null;
-            final Class<? extends SmartRecyclerViewWrapper> wrapperType = wrapper.getClass();
-            if (contains(businessObjectId, businessObjectType, wrapperType, comparisonType))
+            final Integer position = wrapper.getId() != -1 ? existingKeys.get(new WrapperKey(wrapper, comparisonType)) : null;
+            if (position != null)
             {
-              final int position = getItemPosition(businessObjectId, businessObjectType, wrapperType, comparisonType);
               set(position, wrapper);
               replacedWrappersToRemove.add(wrapper);
             }
           }
           newWrappers.removeAll(replacedWrappersToRemove);
           break;
+        }
         case NONE:
         default:
           break;
@@ -524,18 +897,7 @@ public class SmartRecyclerAdapter
    */
   public final boolean contains(long businessObjectID)
   {
-    if (this.wrappers != null && this.wrappers.size() > 0 && businessObjectID != -1)
-    {
-      for (int index = 0; index < this.wrappers.size(); index++)
-      {
-        if (businessObjectID == getItemId(index))
-        {
-          return true;
-        }
-      }
-    }
-
-    return false;
+    return findItemPosition(businessObjectID, null, null, ComparisonType.CLASSIC) != -1;
   }
 
   /**
@@ -550,40 +912,7 @@ public class SmartRecyclerAdapter
   public final boolean contains(long businessObjectID, Class<?> businessObjectType, Class<?> wrapperType,
       ComparisonType comparisonType)
   {
-    if (this.wrappers != null && this.wrappers.size() > 0 && businessObjectID != -1)
-    {
-      for (int index = 0; index < this.wrappers.size(); index++)
-      {
-        final boolean areEqual;
-        final SmartRecyclerViewWrapper<?> wrapper = this.wrappers.get(index);
-        final Object businessObject = wrapper.getBusinessObject();
-        switch (comparisonType)
-        {
-          default:
-          case CLASSIC:
-            areEqual = businessObjectID == getItemId(index);
-            break;
-          case BUSINESS_OBJECT_TYPE:
-            areEqual = businessObjectID == getItemId(
-                index) && businessObjectType == (businessObject != null ? businessObject.getClass() : null);
-            break;
-          case WRAPPER_TYPE:
-            areEqual = businessObjectID == getItemId(index) && wrapperType == wrapper.getClass();
-            break;
-          case BUSINESS_OBJECT_AND_WRAPPER_TYPE:
-            areEqual = businessObjectID == getItemId(
-                index) && businessObjectType == (businessObject != null ? businessObject.getClass() : null) && wrapperType == wrapper.getClass();
-            break;
-        }
-
-        if (areEqual)
-        {
-          return true;
-        }
-      }
-    }
-
-    return false;
+    return findItemPosition(businessObjectID, businessObjectType, wrapperType, comparisonType) != -1;
   }
 
   /**
@@ -612,18 +941,8 @@ public class SmartRecyclerAdapter
    */
   public final SmartRecyclerViewWrapper<?> getItemWrapper(long businessObjectID)
   {
-    if (this.wrappers != null && this.wrappers.isEmpty() == false && businessObjectID != -1)
-    {
-      for (int index = 0; index < this.wrappers.size(); index++)
-      {
-        if (businessObjectID == getItemId(index))
-        {
-          return wrappers.get(index);
-        }
-      }
-    }
-
-    return null;
+    final int position = findItemPosition(businessObjectID, null, null, ComparisonType.CLASSIC);
+    return position == -1 ? null : wrappers.get(position);
   }
 
   /**
@@ -637,40 +956,8 @@ public class SmartRecyclerAdapter
   public final SmartRecyclerViewWrapper<?> getItemWrapper(long businessObjectID, Class<?> businessObjectType,
       Class<?> wrapperType, ComparisonType comparisonType)
   {
-    if (this.wrappers != null && this.wrappers.isEmpty() == false && businessObjectID != -1)
-    {
-      for (int index = 0; index < this.wrappers.size(); index++)
-      {
-        final boolean areEqual;
-        final SmartRecyclerViewWrapper<?> wrapper = this.wrappers.get(index);
-        final Object businessObject = wrapper.getBusinessObject();
-        switch (comparisonType)
-        {
-          default:
-          case CLASSIC:
-            areEqual = businessObjectID == getItemId(index);
-            break;
-          case BUSINESS_OBJECT_TYPE:
-            areEqual = businessObjectID == getItemId(
-                index) && businessObjectType == (businessObject != null ? businessObject.getClass() : null);
-            break;
-          case WRAPPER_TYPE:
-            areEqual = businessObjectID == getItemId(index) && wrapperType == wrapper.getClass();
-            break;
-          case BUSINESS_OBJECT_AND_WRAPPER_TYPE:
-            areEqual = businessObjectID == getItemId(
-                index) && businessObjectType == (businessObject != null ? businessObject.getClass() : null) && wrapperType == wrapper.getClass();
-            break;
-        }
-
-        if (areEqual)
-        {
-          return wrappers.get(index);
-        }
-      }
-    }
-
-    return null;
+    final int position = findItemPosition(businessObjectID, businessObjectType, wrapperType, comparisonType);
+    return position == -1 ? null : wrappers.get(position);
   }
 
   /**
@@ -681,18 +968,7 @@ public class SmartRecyclerAdapter
    */
   public final int getItemPosition(long businessObjectID)
   {
-    if (this.wrappers != null && this.wrappers.isEmpty() == false && businessObjectID != -1)
-    {
-      for (int index = 0; index < this.wrappers.size(); index++)
-      {
-        if (businessObjectID == getItemId(index))
-        {
-          return index;
-        }
-      }
-    }
-
-    return -1;
+    return findItemPosition(businessObjectID, null, null, ComparisonType.CLASSIC);
   }
 
   /**
@@ -706,40 +982,7 @@ public class SmartRecyclerAdapter
   public final int getItemPosition(long businessObjectID, Class<?> businessObjectType, Class<?> wrapperType,
       ComparisonType comparisonType)
   {
-    if (this.wrappers != null && this.wrappers.isEmpty() == false && businessObjectID != -1)
-    {
-      for (int index = 0; index < this.wrappers.size(); index++)
-      {
-        final boolean areEqual;
-        final SmartRecyclerViewWrapper<?> wrapper = this.wrappers.get(index);
-        final Object businessObject = wrapper.getBusinessObject();
-        switch (comparisonType)
-        {
-          default:
-          case CLASSIC:
-            areEqual = businessObjectID == getItemId(index);
-            break;
-          case BUSINESS_OBJECT_TYPE:
-            areEqual = businessObjectID == getItemId(
-                index) && businessObjectType == (businessObject != null ? businessObject.getClass() : null);
-            break;
-          case WRAPPER_TYPE:
-            areEqual = businessObjectID == getItemId(index) && wrapperType == wrapper.getClass();
-            break;
-          case BUSINESS_OBJECT_AND_WRAPPER_TYPE:
-            areEqual = businessObjectID == getItemId(
-                index) && businessObjectType == (businessObject != null ? businessObject.getClass() : null) && wrapperType == wrapper.getClass();
-            break;
-        }
-
-        if (areEqual)
-        {
-          return index;
-        }
-      }
-    }
-
-    return -1;
+    return findItemPosition(businessObjectID, businessObjectType, wrapperType, comparisonType);
   }
 
   /**
@@ -753,12 +996,10 @@ public class SmartRecyclerAdapter
   {
     if (this.wrappers != null && this.wrappers.isEmpty() == false && position >= 0 && position <= this.wrappers.size())
     {
-      final int wrapperType = item.getType();
-      if (viewTypeAttributesDictionary.get(wrapperType) == null)
-      {
-        viewTypeAttributesDictionary.append(wrapperType, item);
-      }
+      registerViewType(item);
       final SmartRecyclerViewWrapper<?> wrapper = this.wrappers.set(position, item);
+      onWrapperReplacedInIdIndex(position, wrapper, item);
+      onWrappersChanged();
       if (shouldNotifyBeCalled)
       {
         notifyItemChanged(position);
@@ -799,6 +1040,52 @@ public class SmartRecyclerAdapter
     return viewTypeAttributesDictionary;
   }
 
+  /**
+   * Enables or disables the index of the wrappers identifiers.
+   * When enabled, the {@link #contains(long)}, {@link #getItemPosition(long)} and {@link #getItemWrapper(long)} methods, and their
+   * {@link ComparisonType} variants, do not scan the wrappers anymore but perform an O(1) lookup.
+   * <p>
+   * The index is kept up to date by the methods of the adapter which modify the wrappers, and is lazily rebuilt after an insertion or a removal
+   * in the middle of the list. It requires the identifiers of the wrappers to remain stable as long as they are in the adapter.
+   *
+   * @param enabled {@code true} in order to maintain the index
+   */
+  public final void setIdIndexEnabled(boolean enabled)
+  {
+    if (enabled && idIndex == null)
+    {
+      idIndex = new LongIntHashMap(wrappers.size());
+      isIdIndexValid = false;
+    }
+    else if (enabled == false)
+    {
+      idIndex = null;
+    }
+  }
+
+  public final boolean isIdIndexEnabled()
+  {
+    return idIndex != null;
+  }
+
+  /**
+   * Must be called when the {@link #wrappers} list has been modified directly, so that the index of the identifiers is rebuilt on the next lookup.
+   *
+   * @see #setIdIndexEnabled(boolean)
+   */
+  protected final void invalidateIdIndex()
+  {
+    isIdIndexValid = false;
+    onWrappersChanged();
+  }
+
+  /**
+   * Invoked each time the {@link #wrappers} list has been modified, before the change is notified.
+   */
+  void onWrappersChanged()
+  {
+  }
+
   /**
    * Adds an item to the adapter at a specified position
    * and call notifyItemInserted
@@ -810,16 +1097,273 @@ public class SmartRecyclerAdapter
   private void addItem(int position, SmartRecyclerViewWrapper<?> item, boolean shouldNotify)
   {
     wrappers.add(position, item);
+    onWrapperAddedToIdIndex(position, item);
+    onWrappersChanged();
+
+    registerViewType(item);
+
+    if (shouldNotify && shouldNotifyBeCalled)
+    {
+      notifyItemInserted(position);
+    }
+  }
 
-    final int wrapperType = item.getType();
+  private void registerViewType(SmartRecyclerViewWrapper<?> wrapper)
+  {
+    final int wrapperType = wrapper.getType();
     if (viewTypeAttributesDictionary.get(wrapperType) == null)
     {
-      viewTypeAttributesDictionary.append(wrapperType, item);
+      viewTypeAttributesDictionary.append(wrapperType, wrapper);
     }
+    if (smartRecycledViewPool != null)
+    {
+      smartRecycledViewPool.registerViewType(wrapper);
+    }
+  }
 
-    if (shouldNotify && shouldNotifyBeCalled)
+  private ViewHolderPrewarmer createViewHolderPrewarmer(RecyclerView recyclerView, int countPerViewType)
+  {
+    // The wrappers are captured on the main thread, as the registry may change while the views are inflated
+    final List<SmartRecyclerViewWrapper<?>> viewTypeWrappers = new ArrayList<>(viewTypeAttributesDictionary.size());
+    final List<Integer> viewTypes = new ArrayList<>(viewTypeAttributesDictionary.size());
+    for (int index = 0; index < viewTypeAttributesDictionary.size(); index++)
     {
-      notifyItemInserted(position);
+      viewTypes.add(viewTypeAttributesDictionary.keyAt(index));
+      viewTypeWrappers.add(viewTypeAttributesDictionary.valueAt(index));
+    }
+
+    return new ViewHolderPrewarmer(this, recyclerView, viewTypeWrappers, viewTypes, countPerViewType);
+  }
+
+  /**
+   * Maps the key of every wrapper of the adapter to the position of its first occurrence.
+   */
+  private Map<WrapperKey, Integer> indexWrapperKeys(ComparisonType comparisonType)
+  {
+    final Map<WrapperKey, Integer> keys = new HashMap<>(wrappers.size() * 2);
+    for (int index = wrappers.size() - 1; index >= 0; index--)
+    {
+      keys.put(new WrapperKey(wrappers.get(index), comparisonType), index);
+    }
+
+    return keys;
+  }
+
+  /**
+   * Removes the flagged wrappers in a single pass and calls notifyItemRangeRemoved once per range of consecutive removed wrappers.
+   *
+   * @param wrappersToRemove a flag for each position of the adapter
+   */
+  private void removeItems(boolean[] wrappersToRemove)
+  {
+    final List<SmartRecyclerViewWrapper<?>> keptWrappers = new ArrayList<>(wrappers.size());
+    for (int index = 0; index < wrappers.size(); index++)
+    {
+      if (wrappersToRemove[index] == false)
+      {
+        keptWrappers.add(wrappers.get(index));
+      }
+    }
+
+    if (keptWrappers.size() != wrappers.size())
+    {
+      wrappers = keptWrappers;
+      invalidateIdIndex();
+
+      if (shouldNotifyBeCalled)
+      {
+        // From the end, so that the positions of the remaining notifications are not shifted
+        int rangeEnd = wrappersToRemove.length;
+        while (rangeEnd > 0)
+        {
+          if (wrappersToRemove[rangeEnd - 1] == false)
+          {
+            rangeEnd--;
+            continue;
+          }
+
+          int rangeStart = rangeEnd - 1;
+          while (rangeStart > 0 && wrappersToRemove[rangeStart - 1])
+          {
+            rangeStart--;
+          }
+          notifyItemRangeRemoved(rangeStart, rangeEnd - rangeStart);
+          rangeEnd = rangeStart;
+        }
+      }
+    }
+  }
+
+  /**
+   * Looks for the first wrapper which matches the given identifier and types, depending on the comparison type.
+   *
+   * @return the position of the wrapper if found, -1 otherwise
+   */
+  private int findItemPosition(long businessObjectID, Class<?> businessObjectType, Class<?> wrapperType,
+      ComparisonType comparisonType)
+  {
+    if (this.wrappers == null || this.wrappers.isEmpty() || businessObjectID == -1)
+    {
+      return -1;
+    }
+
+    int startIndex = 0;
+    if (idIndex != null)
+    {
+      if (isIdIndexUpToDate(wrappers.size()) == false)
+      {
+        rebuildIdIndex();
+      }
+
+      startIndex = idIndex.get(businessObjectID, -1);
+      if (startIndex != -1 && (startIndex >= wrappers.size() || getItemId(startIndex) != businessObjectID))
+      {
+        // The wrappers have been modified without the index being invalidated
+        rebuildIdIndex();
+        startIndex = idIndex.get(businessObjectID, -1);
+      }
+      if (startIndex == -1)
+      {
+        return -1;
+      }
+      else if (hasDuplicateIds == false)
+      {
+        // The identifier is unique, so that there is no other candidate
+        return matches(wrappers.get(startIndex), businessObjectType, wrapperType, comparisonType) ? startIndex : -1;
+      }
+    }
+
+    for (int index = startIndex; index < this.wrappers.size(); index++)
+    {
+      if (businessObjectID == getItemId(index) && matches(wrappers.get(index), businessObjectType, wrapperType, comparisonType))
+      {
+        return index;
+      }
+    }
+
+    return -1;
+  }
+
+  private boolean matches(SmartRecyclerViewWrapper<?> wrapper, Class<?> businessObjectType, Class<?> wrapperType,
+      ComparisonType comparisonType)
+  {
+    final Object businessObject = wrapper.getBusinessObject();
+    switch (comparisonType)
+    {
+      default:
+      case CLASSIC:
+        return true;
+      case BUSINESS_OBJECT_TYPE:
+        return businessObjectType == (businessObject != null ? businessObject.getClass() : null);
+      case WRAPPER_TYPE:
+        return wrapperType == wrapper.getClass();
+      case BUSINESS_OBJECT_AND_WRAPPER_TYPE:
+        return businessObjectType == (businessObject != null ? businessObject.getClass() : null) && wrapperType == wrapper.getClass();
+    }
+  }
+
+  private void rebuildIdIndex()
+  {
+    idIndex.clear();
+    hasDuplicateIds = false;
+    for (int index = 0; index < wrappers.size(); index++)
+    {
+      if (idIndex.putIfAbsent(getItemId(index), index) == false)
+      {
+        hasDuplicateIds = true;
+      }
+    }
+    isIdIndexValid = true;
+    indexedWrappers = wrappers;
+    indexedWrapperCount = wrappers.size();
+  }
+
+  /**
+   * @param wrapperCount the number of wrappers the index should have been built for
+   * @return whether the index is valid and has been built for the current list with this number of wrappers
+   */
+  private boolean isIdIndexUpToDate(int wrapperCount)
+  {
+    return isIdIndexValid && indexedWrappers == wrappers && indexedWrapperCount == wrapperCount;
+  }
+
+  private void onWrapperAddedToIdIndex(int position, SmartRecyclerViewWrapper<?> item)
+  {
+    if (idIndex != null && isIdIndexValid)
+    {
+      if (position == wrappers.size() - 1 && isIdIndexUpToDate(position))
+      {
+        // An appended wrapper does not shift the other positions
+        if (idIndex.putIfAbsent(item.getId(), position) == false)
+        {
+          hasDuplicateIds = true;
+        }
+        indexedWrapperCount = wrappers.size();
+      }
+      else
+      {
+        isIdIndexValid = false;
+      }
+    }
+  }
+
+  private void onWrapperRemovedFromIdIndex(int position, SmartRecyclerViewWrapper<?> wrapper)
+  {
+    if (idIndex != null && isIdIndexValid)
+    {
+      if (position == wrappers.size() && isIdIndexUpToDate(position + 1))
+      {
+        final long id = wrapper.getId();
+        if (idIndex.get(id, -1) == position)
+        {
+          idIndex.remove(id, -1);
+        }
+        indexedWrapperCount = wrappers.size();
+      }
+      else
+      {
+        isIdIndexValid = false;
+      }
+    }
+  }
+
+  private void onWrapperReplacedInIdIndex(int position, SmartRecyclerViewWrapper<?> oldWrapper,
+      SmartRecyclerViewWrapper<?> newWrapper)
+  {
+    if (idIndex != null && isIdIndexValid)
+    {
+      if (isIdIndexUpToDate(wrappers.size()) == false)
+      {
+        isIdIndexValid = false;
+        return;
+      }
+
+      final long oldId = oldWrapper.getId();
+      final long newId = newWrapper.getId();
+      if (oldId != newId)
+      {
+        if (hasDuplicateIds)
+        {
+          // Another wrapper may share the old identifier, hence the index is rebuilt
+          isIdIndexValid = false;
+          return;
+        }
+
+        idIndex.remove(oldId, -1);
+        final int existingPosition = idIndex.get(newId, -1);
+        if (existingPosition == -1)
+        {
+          idIndex.put(newId, position);
+        }
+        else
+        {
+          hasDuplicateIds = true;
+          if (position < existingPosition)
+          {
+            idIndex.put(newId, position);
+          }
+        }
+      }
     }
   }
 
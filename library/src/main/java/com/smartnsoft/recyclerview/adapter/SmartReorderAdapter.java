@@ -22,11 +22,15 @@
 
 package com.smartnsoft.recyclerview.adapter;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import android.content.Context;
 
 import com.smartnsoft.recyclerview.recyclerview.SmartReorderRecyclerView.ReorderAdapter;
+import com.smartnsoft.recyclerview.wrapper.SmartRecyclerViewWrapper;
 
 /**
  * @author Adrien Vitti
@@ -41,25 +45,139 @@ public class SmartReorderAdapter
     super(context);
   }
 
+  /**
+   * Swaps the elements with the given indices, which are notified as moved, so that none of the items is bound again.
+   */
   @Override
   public void swapElements(int fromIndex, int toIndex)
   {
+    if (fromIndex == toIndex)
+    {
+      return;
+    }
+
     Collections.swap(wrappers, fromIndex, toIndex);
+    invalidateIdIndex();
+
+    notifyItemMoved(fromIndex, toIndex);
+    if (Math.abs(fromIndex - toIndex) > 1)
+    {
+      // The element which was at "toIndex" has been shifted by one position towards "fromIndex" by the first move
+      notifyItemMoved(fromIndex < toIndex ? toIndex - 1 : toIndex + 1, fromIndex);
+    }
+  }
+
+  /**
+   * Shifts the elements in between instead of swapping them, and notifies a single move.
+   */
+  @Override
+  public void moveElement(int fromIndex, int toIndex)
+  {
+    if (fromIndex == toIndex)
+    {
+      return;
+    }
+
+    wrappers.add(toIndex, wrappers.remove(fromIndex));
+    invalidateIdIndex();
+
+    notifyItemMoved(fromIndex, toIndex);
+  }
+
+  /**
+   * Rebuilds the list in a single pass, and notifies one move per gathered item, so that the holders are kept and the items are animated as
+   * moved, the anchor not being notified at all.
+   *
+   * @throws IllegalArgumentException if an identifier is not in the adapter or is listed twice
+   */
+  @Override
+  public void gatherElements(long anchorId, long[] itemIds)
+  {
+    final int count = wrappers.size();
+    final int anchorIndex = getItemPosition(anchorId);
+    final boolean[] isGathered = new boolean[count];
+    final SmartRecyclerViewWrapper<?>[] gatheredWrappers = new SmartRecyclerViewWrapper<?>[itemIds.length];
+    final int[] positions = new int[itemIds.length];
+    int anchorRank = -1;
+    for (int rank = 0; rank < itemIds.length; rank++)
+    {
+      final int index = getItemPosition(itemIds[rank]);
+      if (index == -1 || isGathered[index])
+      {
+        throw new IllegalArgumentException("The identifier " + itemIds[rank] + " is not in the adapter or is listed twice");
+      }
+      isGathered[index] = true;
+      gatheredWrappers[rank] = wrappers.get(index);
+      positions[rank] = index;
+      if (index == anchorIndex)
+      {
+        anchorRank = rank;
+      }
+    }
+    if (anchorRank == -1)
+    {
+      throw new IllegalArgumentException("The anchor identifier " + anchorId + " is not listed");
+    }
+
+    final List<SmartRecyclerViewWrapper<?>> newWrappers = new ArrayList<>(count);
+    for (int index = 0; index < count; index++)
+    {
+      if (index == anchorIndex)
+      {
+        newWrappers.addAll(Arrays.asList(gatheredWrappers));
+      }
+      else if (isGathered[index] == false)
+      {
+        newWrappers.add(wrappers.get(index));
+      }
+    }
+    wrappers.clear();
+    wrappers.addAll(newWrappers);
+    invalidateIdIndex();
 
-    final int startPosition;
-    final int range;
-    if (fromIndex > toIndex)
+    // The moves are replayed on the positions of the gathered items only: the items listed after the anchor are moved right below it, and then
+    // the ones listed before it right above it, which leads to the list which has just been built
+    for (int rank = anchorRank + 1; rank < itemIds.length; rank++)
+    {
+      final int fromIndex = positions[rank];
+      final int toIndex = positions[anchorRank] + rank - anchorRank - (fromIndex < positions[anchorRank] ? 1 : 0);
+      notifyGatheredItemMoved(positions, fromIndex, toIndex);
+    }
+    for (int rank = anchorRank - 1; rank >= 0; rank--)
     {
-      startPosition = toIndex;
-      range = fromIndex - toIndex + 1;
+      final int fromIndex = positions[rank];
+      final int toIndex = positions[anchorRank] - (anchorRank - rank) + (fromIndex < positions[anchorRank] ? 0 : 1);
+      notifyGatheredItemMoved(positions, fromIndex, toIndex);
     }
-    else
+  }
+
+  /**
+   * Notifies the move of a gathered item, and updates the positions of the gathered items which it shifts.
+   */
+  private void notifyGatheredItemMoved(int[] positions, int fromIndex, int toIndex)
+  {
+    if (fromIndex == toIndex)
     {
-      startPosition = fromIndex;
-      range = toIndex - fromIndex + 1;
+      return;
     }
 
-    notifyItemRangeChanged(startPosition, range);
+    notifyItemMoved(fromIndex, toIndex);
+    for (int rank = 0; rank < positions.length; rank++)
+    {
+      final int position = positions[rank];
+      if (position == fromIndex)
+      {
+        positions[rank] = toIndex;
+      }
+      else if (fromIndex < toIndex && position > fromIndex && position <= toIndex)
+      {
+        positions[rank] = position - 1;
+      }
+      else if (fromIndex > toIndex && position >= toIndex && position < fromIndex)
+      {
+        positions[rank] = position + 1;
+      }
+    }
   }
 
 }
@@ -22,15 +22,18 @@
 
 package com.smartnsoft.recyclerview.adapter;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import android.content.Context;
 
 import com.smartnsoft.recyclerview.attributes.SmartRecyclerAttributes;
-import com.smartnsoft.recyclerview.wrapper.SmartRecyclerViewWrapper;
+import com.smartnsoft.recyclerview.util.LongHashSet;
 
 /**
+ * An adapter whose items can be selected, one at a time or several at once.
+ * <p>
+ * The selection changes are notified with a {@link SelectionPayload}, so that the holders only have their
+ * {@link SmartRecyclerAttributes#onSelectionChanged(boolean)} method invoked. The {@link #setIdIndexEnabled(boolean) index of the identifiers}
+ * is enabled by default, so that the position of an item is found in constant time.
+ *
  * @author Raphael Kiffer
  * @since 2016.01.12
  */
@@ -40,7 +43,10 @@ public class SmartSelectorRecyclerAdapter
 
   private boolean isMultipleSelectionEnabled;
 
-  private Map<Long, Boolean> selectableMap;
+  /**
+   * The identifiers of the selected items, stored without any boxing.
+   */
+  private final LongHashSet selectedIds;
 
   public SmartSelectorRecyclerAdapter(Context context)
   {
@@ -53,42 +59,136 @@ public class SmartSelectorRecyclerAdapter
 
     this.isMultipleSelectionEnabled = isMultipleSelectionEnabled;
 
-    selectableMap = new HashMap<>();
+    selectedIds = new LongHashSet();
+    setIdIndexEnabled(true);
   }
 
   @Override
-  public void onBindViewHolder(SmartRecyclerAttributes smartRecyclerAttributes, int position)
+  protected boolean isItemSelectedAt(int position)
   {
     if (isMultipleSelectionEnabled == false)
     {
-      super.onBindViewHolder(smartRecyclerAttributes, position);
+      return super.isItemSelectedAt(position);
+    }
+
+    return selectedIds.contains(wrappers.get(position).getId());
+  }
+
+  public final void toggleItemSelectedState(long businessObjectId)
+  {
+    setItemSelectedState(businessObjectId, selectedIds.contains(businessObjectId) == false);
+  }
+
+  public final void setItemSelectedState(long businessObjectId, boolean isSelected)
+  {
+    if (isSelected)
+    {
+      selectedIds.add(businessObjectId);
     }
     else
     {
-      final SmartRecyclerViewWrapper<?> wrapper = wrappers.get(position);
-      final Object businessObject = wrapper.getBusinessObject();
-      smartRecyclerAttributes.update(businessObject,
-          selectableMap.containsKey(wrapper.getId()) && selectableMap.get(wrapper.getId()));
+      selectedIds.remove(businessObjectId);
+    }
+    final int position = getItemPosition(businessObjectId);
+    if (position != -1)
+    {
+      notifyItemChanged(position, SelectionPayload.INSTANCE);
     }
+  }
 
+  public final boolean isItemSelected(long businessObjectId)
+  {
+    return selectedIds.contains(businessObjectId);
   }
 
-  public final void toggleItemSelectedState(long businessObjectId)
+  /**
+   * @return the number of selected identifiers, which may include identifiers of items which are not in the adapter anymore
+   */
+  public final int getSelectedItemCount()
+  {
+    return selectedIds.size();
+  }
+
+  /**
+   * @return the identifiers of the selected items, in no particular order
+   */
+  public final long[] getSelectedIds()
+  {
+    return selectedIds.toArray();
+  }
+
+  /**
+   * Selects all the items of the adapter, with a single change notification. It does nothing unless the multiple selection is enabled.
+   */
+  public final void selectAll()
+  {
+    selectRange(0, wrappers.size());
+  }
+
+  /**
+   * Selects the items of the given range of positions, with a single change notification. It does nothing unless the multiple selection is
+   * enabled.
+   *
+   * @param positionStart the position of the first item to select
+   * @param itemCount     the number of items to select
+   * @throws IndexOutOfBoundsException if the range is not within the items of the adapter
+   */
+  public final void selectRange(int positionStart, int itemCount)
   {
-    if (selectableMap.containsKey(businessObjectId))
+    if (positionStart < 0 || itemCount < 0 || positionStart + itemCount > wrappers.size())
     {
-      setItemSelectedState(businessObjectId, !selectableMap.get(businessObjectId));
+      throw new IndexOutOfBoundsException("The range [" + positionStart + ", " + (positionStart + itemCount) + ") is not within the " + wrappers.size() + " items of the adapter");
     }
-    else
+    if (isMultipleSelectionEnabled == false)
+    {
+      return;
+    }
+
+    for (int position = positionStart; position < positionStart + itemCount; position++)
+    {
+      selectedIds.add(wrappers.get(position).getId());
+    }
+    if (itemCount > 0)
     {
-      setItemSelectedState(businessObjectId, true);
+      notifyItemRangeChanged(positionStart, itemCount, SelectionPayload.INSTANCE);
     }
   }
 
-  public final void setItemSelectedState(long businessObjectId, boolean isSelected)
+  /**
+   * Unselects all the items, with a single change notification covering the span of the items which were selected. When the multiple
+   * selection is disabled, the {@link #setSelectedPositionItem(int) selected position} is reset instead.
+   */
+  public final void clearSelection()
   {
-    selectableMap.put(businessObjectId, isSelected);
-    notifyItemChanged(getItemPosition(businessObjectId));
+    if (isMultipleSelectionEnabled == false)
+    {
+      selectedIds.clear();
+      setSelectedPositionItem(-1);
+      return;
+    }
+    if (selectedIds.isEmpty())
+    {
+      return;
+    }
+
+    int firstPosition = -1;
+    int lastPosition = -1;
+    for (int position = 0; position < wrappers.size(); position++)
+    {
+      if (selectedIds.contains(wrappers.get(position).getId()))
+      {
+        if (firstPosition == -1)
+        {
+          firstPosition = position;
+        }
+        lastPosition = position;
+      }
+    }
+    selectedIds.clear();
+    if (firstPosition != -1)
+    {
+      notifyItemRangeChanged(firstPosition, lastPosition - firstPosition + 1, SelectionPayload.INSTANCE);
+    }
   }
 
 }
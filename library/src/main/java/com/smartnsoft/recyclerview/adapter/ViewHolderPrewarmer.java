@@ -0,0 +1,162 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.adapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.support.v7.widget.RecyclerView;
+import android.support.v7.widget.RecyclerView.RecycledViewPool;
+import android.view.View;
+
+import com.smartnsoft.recyclerview.wrapper.SmartRecyclerViewWrapper;
+
+/**
+ * Creates view holders ahead of time for the view types registered in a {@link SmartRecyclerAdapter}, and puts them into the
+ * {@link RecycledViewPool} of the {@link RecyclerView}, so that the first layout and the first scroll do not inflate them.
+ *
+ * @see SmartRecyclerAdapter#prewarmViewHolders(RecyclerView, int)
+ * @see SmartRecyclerAdapter#prewarmViewHolders(RecyclerView, int, Executor)
+ * @since 2026.10.16
+ */
+final class ViewHolderPrewarmer
+    implements MessageQueue.IdleHandler
+{
+
+  private final SmartRecyclerAdapter adapter;
+
+  private final RecyclerView recyclerView;
+
+  private final List<SmartRecyclerViewWrapper<?>> wrappers;
+
+  private final List<Integer> viewTypes;
+
+  /**
+   * The number of view holders which remain to be created for each view type, in the {@link #viewTypes} order.
+   */
+  private final int[] remainingCounts;
+
+  private int viewTypeIndex;
+
+  ViewHolderPrewarmer(SmartRecyclerAdapter adapter, RecyclerView recyclerView,
+      List<SmartRecyclerViewWrapper<?>> wrappers, List<Integer> viewTypes, int countPerViewType)
+  {
+    this.adapter = adapter;
+    this.recyclerView = recyclerView;
+    this.wrappers = wrappers;
+    this.viewTypes = viewTypes;
+    this.remainingCounts = new int[viewTypes.size()];
+
+    final RecycledViewPool recycledViewPool = recyclerView.getRecycledViewPool();
+    for (int index = 0; index < viewTypes.size(); index++)
+    {
+      final int viewType = viewTypes.get(index);
+      if (countPerViewType > SmartRecyclerAdapter.DEFAULT_MAX_RECYCLED_VIEWS)
+      {
+        recycledViewPool.setMaxRecycledViews(viewType, countPerViewType);
+      }
+      remainingCounts[index] = Math.max(0, countPerViewType - recycledViewPool.getRecycledViewCount(viewType));
+    }
+  }
+
+  /**
+   * Creates one view holder each time the main thread is idle.
+   */
+  void startOnIdleFrames()
+  {
+    Looper.myQueue().addIdleHandler(this);
+  }
+
+  /**
+   * Inflates the views on the given executor, the view holders being put into the pool on the main thread.
+   */
+  void startOnExecutor(Executor executor)
+  {
+    final Handler mainThreadHandler = new Handler(Looper.getMainLooper());
+    final Context context = recyclerView.getContext();
+    executor.execute(new Runnable()
+    {
+      @Override
+      public void run()
+      {
+        for (int index = 0; index < viewTypes.size(); index++)
+        {
+          final int viewType = viewTypes.get(index);
+          final List<View> views = new ArrayList<>(remainingCounts[index]);
+          for (int count = 0; count < remainingCounts[index]; count++)
+          {
+            views.add(wrappers.get(index).getNewView(recyclerView, context));
+          }
+
+          mainThreadHandler.post(new Runnable()
+          {
+            @Override
+            public void run()
+            {
+              if (isStillAttached())
+              {
+                for (final View view : views)
+                {
+                  recyclerView.getRecycledViewPool().putRecycledView(adapter.createViewHolder(recyclerView, viewType, view));
+                }
+              }
+            }
+          });
+        }
+      }
+    });
+  }
+
+  @Override
+  public boolean queueIdle()
+  {
+    while (viewTypeIndex < viewTypes.size() && remainingCounts[viewTypeIndex] == 0)
+    {
+      viewTypeIndex++;
+    }
+    if (viewTypeIndex >= viewTypes.size() || isStillAttached() == false)
+    {
+      return false;
+    }
+
+    final int viewType = viewTypes.get(viewTypeIndex);
+    recyclerView.getRecycledViewPool().putRecycledView(adapter.createViewHolder(recyclerView, viewType));
+    remainingCounts[viewTypeIndex]--;
+
+    return true;
+  }
+
+  /**
+   * Pre-warming is pointless once the adapter has been replaced.
+   */
+  private boolean isStillAttached()
+  {
+    return recyclerView.getAdapter() == adapter;
+  }
+
+}
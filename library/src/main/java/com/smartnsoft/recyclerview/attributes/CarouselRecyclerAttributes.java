@@ -0,0 +1,139 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.attributes;
+
+import android.os.Parcelable;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+
+import com.smartnsoft.recyclerview.recyclerview.SmartRecycledViewPool;
+import com.smartnsoft.recyclerview.wrapper.CarouselRecyclerViewWrapper;
+
+/**
+ * The attributes of a {@link CarouselRecyclerViewWrapper}, which displays a horizontal {@link RecyclerView} sharing a
+ * {@link SmartRecycledViewPool} with the other carousels. The scroll state of the carousel is saved by wrapper identifier when the holder is
+ * recycled or bound to another wrapper, and restored when a wrapper is bound again.
+ * <p>
+ * The {@link #onBusinessObjectUpdated(Object, boolean)} method of the subclasses sets the wrappers of the carousel adapter, which should use
+ * the {@link #getSmartRecycledViewPool() shared pool} as well.
+ *
+ * @since 2026.10.16
+ */
+public abstract class CarouselRecyclerAttributes<BusinessObjectType>
+    extends SmartRecyclerAttributes<BusinessObjectType>
+{
+
+  protected final RecyclerView carouselRecyclerView;
+
+  private SmartRecycledViewPool smartRecycledViewPool;
+
+  /**
+   * The identifier of the wrapper whose scroll state the carousel displays.
+   */
+  private long carouselWrapperId = -1;
+
+  public CarouselRecyclerAttributes(View view, RecyclerView carouselRecyclerView)
+  {
+    super(view);
+
+    this.carouselRecyclerView = carouselRecyclerView;
+  }
+
+  /**
+   * Invoked by the {@link CarouselRecyclerViewWrapper} once the view has been inflated.
+   *
+   * @param smartRecycledViewPool    the pool shared by the carousels
+   * @param initialPrefetchItemCount the number of items of the carousel which are prefetched while it scrolls into the screen
+   */
+  public void setUpCarousel(SmartRecycledViewPool smartRecycledViewPool, int initialPrefetchItemCount)
+  {
+    this.smartRecycledViewPool = smartRecycledViewPool;
+
+    final LinearLayoutManager layoutManager = new LinearLayoutManager(context, LinearLayoutManager.HORIZONTAL, false);
+    layoutManager.setInitialPrefetchItemCount(initialPrefetchItemCount);
+    carouselRecyclerView.setLayoutManager(layoutManager);
+    carouselRecyclerView.setRecycledViewPool(smartRecycledViewPool);
+  }
+
+  public SmartRecycledViewPool getSmartRecycledViewPool()
+  {
+    return smartRecycledViewPool;
+  }
+
+  @Override
+  public boolean update(long wrapperId, long contentVersion, BusinessObjectType businessObject, boolean isSelected)
+  {
+    final boolean isAnotherCarousel = wrapperId != carouselWrapperId;
+    if (isAnotherCarousel)
+    {
+      saveScrollState();
+    }
+
+    final boolean updated = super.update(wrapperId, contentVersion, businessObject, isSelected);
+
+    if (isAnotherCarousel)
+    {
+      carouselWrapperId = wrapperId;
+      restoreScrollState();
+    }
+
+    return updated;
+  }
+
+  @Override
+  public void onRecycled()
+  {
+    super.onRecycled();
+
+    saveScrollState();
+    carouselWrapperId = -1;
+  }
+
+  private void saveScrollState()
+  {
+    final RecyclerView.LayoutManager layoutManager = carouselRecyclerView.getLayoutManager();
+    if (carouselWrapperId != -1 && smartRecycledViewPool != null && layoutManager != null)
+    {
+      smartRecycledViewPool.saveScrollState(carouselWrapperId, layoutManager.onSaveInstanceState());
+    }
+  }
+
+  private void restoreScrollState()
+  {
+    final RecyclerView.LayoutManager layoutManager = carouselRecyclerView.getLayoutManager();
+    if (smartRecycledViewPool != null && layoutManager != null)
+    {
+      final Parcelable scrollState = smartRecycledViewPool.getScrollState(carouselWrapperId);
+      if (scrollState != null)
+      {
+        layoutManager.onRestoreInstanceState(scrollState);
+      }
+      else
+      {
+        layoutManager.scrollToPosition(0);
+      }
+    }
+  }
+
+}
@@ -22,10 +22,17 @@
 
 package com.smartnsoft.recyclerview.attributes;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import android.content.Context;
 import android.support.v7.widget.RecyclerView.ViewHolder;
 import android.view.View;
 
+import com.smartnsoft.recyclerview.adapter.ChangedFieldsPayload;
+import com.smartnsoft.recyclerview.adapter.SelectionPayload;
+import com.smartnsoft.recyclerview.wrapper.SmartFieldDiffUtil;
+
 /**
  * Is responsible for creating a new {@link View}, which is able to represent the provided business object.
  *
@@ -36,12 +43,46 @@ public abstract class SmartRecyclerAttributes<BusinessObjectType>
     extends ViewHolder
 {
 
+  /**
+   * Whether each subclass overrides {@link #update(Object, boolean)}, only accessed from the UI thread.
+   */
+  private static final Map<Class<?>, Boolean> LEGACY_UPDATE_OVERRIDES = new HashMap<>();
+
+  private static boolean isLegacyUpdateOverridden(Class<?> attributesClass)
+  {
+    Boolean isOverridden = LEGACY_UPDATE_OVERRIDES.get(attributesClass);
+    if (isOverridden == null)
+    {
+      try
+      {
+        // A subclass narrowing the business object type overrides the method through a bridge method with the erased signature
+        isOverridden = attributesClass.getMethod("update", Object.class, boolean.class).getDeclaringClass() != SmartRecyclerAttributes.class;
+      }
+      catch (NoSuchMethodException exception)
+      {
+        isOverridden = false;
+      }
+      LEGACY_UPDATE_OVERRIDES.put(attributesClass, isOverridden);
+    }
+    return isOverridden;
+  }
+
   protected String intentFilterCategory;
 
   protected long businessObjectIdentifier = -1;
 
   protected Context context;
 
+  private boolean isBound;
+
+  private long boundWrapperId;
+
+  private BusinessObjectType boundBusinessObject;
+
+  private long boundContentVersion;
+
+  private boolean boundSelected;
+
   public SmartRecyclerAttributes(View view)
   {
     super(view);
@@ -54,6 +95,16 @@ public abstract class SmartRecyclerAttributes<BusinessObjectType>
     this.intentFilterCategory = intentFilterCategory;
   }
 
+  /**
+   * Binds the business object, unless its reference is the one currently displayed.
+   *
+   * @param businessObject the business object to bind
+   * @param isSelected     whether the item is selected
+   * @deprecated the adapter now binds through {@link #update(long, long, Object, boolean)}, which only delegates to this method when a
+   * subclass overrides it, in which case no bind is skipped: override {@link #update(long, long, Object, boolean)} instead, or call
+   * {@link #invalidateBindKey()} in order to force the next bind
+   */
+  @Deprecated
   public void update(BusinessObjectType businessObject, boolean isSelected)
   {
     final long businessHashCode = System.identityHashCode(businessObject);
@@ -65,9 +116,120 @@ public abstract class SmartRecyclerAttributes<BusinessObjectType>
     }
   }
 
+  /**
+   * Binds the business object, unless the holder already displays it: the bind key is made of the wrapper identifier, the business object
+   * reference, its content version and the selection state.
+   * <p>
+   * As with {@link #update(Object, boolean)}, {@link #businessObjectIdentifier} holds the identity hash code of the bound business object, and
+   * resetting it forces the next bind. When a subclass still overrides the deprecated {@link #update(Object, boolean)}, this method delegates to
+   * it on every call, so that its former behavior is preserved.
+   *
+   * @param wrapperId      the identifier of the wrapper of the business object
+   * @param contentVersion the content version of the wrapper of the business object
+   * @param businessObject the business object to bind
+   * @param isSelected     whether the item is selected
+   * @return {@code true} if {@link #onBusinessObjectUpdated(Object, boolean)} has been invoked, {@code false} if the bind has been skipped
+   */
+  public boolean update(long wrapperId, long contentVersion, BusinessObjectType businessObject, boolean isSelected)
+  {
+    if (isLegacyUpdateOverridden(getClass()))
+    {
+      update(businessObject, isSelected);
+      isBound = false;
+      return true;
+    }
+
+    final long businessHashCode = System.identityHashCode(businessObject);
+    if (isBound && businessObjectIdentifier == businessHashCode && boundWrapperId == wrapperId && boundBusinessObject == businessObject
+        && boundContentVersion == contentVersion && boundSelected == isSelected)
+    {
+      return false;
+    }
+
+    onBusinessObjectUpdated(businessObject, isSelected);
+
+    businessObjectIdentifier = businessHashCode;
+    boundWrapperId = wrapperId;
+    boundBusinessObject = businessObject;
+    boundContentVersion = contentVersion;
+    boundSelected = isSelected;
+    isBound = true;
+
+    return true;
+  }
+
+  /**
+   * Updates the selected state only, when the item has been notified with a {@link SelectionPayload}.
+   *
+   * @param isSelected whether the item is selected
+   * @return {@code true} if the selected state is displayed, {@code false} if a full update is required
+   * @see #onSelectionChanged(boolean)
+   */
+  public boolean updateSelectedState(boolean isSelected)
+  {
+    if (isBound == false)
+    {
+      return false;
+    }
+    if (boundSelected == isSelected)
+    {
+      return true;
+    }
+    if (onSelectionChanged(isSelected) == false)
+    {
+      return false;
+    }
+
+    boundSelected = isSelected;
+    return true;
+  }
+
+  /**
+   * Forces the next {@code update()} call to bind the business object, even if it is the one currently displayed.
+   */
+  public void invalidateBindKey()
+  {
+    isBound = false;
+    boundBusinessObject = null;
+  }
+
   public void onBusinessObjectUpdated(BusinessObjectType businessObject, boolean isSelected)
   {
     // Does not perform any update by default
   }
 
+  /**
+   * Invoked instead of a full update when only the selected state of the item has changed, typically in order to check a checkbox.
+   *
+   * @param isSelected whether the item is now selected
+   * @return {@code true} if the selected state has been bound, {@code false} in order to perform a full update instead, which is the default
+   * @see SelectionPayload
+   */
+  public boolean onSelectionChanged(boolean isSelected)
+  {
+    return false;
+  }
+
+  /**
+   * Invoked when the holder is recycled, so that it can release or save the state bound to its business object.
+   */
+  public void onRecycled()
+  {
+    // Does nothing by default
+  }
+
+  /**
+   * Invoked instead of a full update when only some fields of the business object have changed, which requires its wrapper to implement the
+   * {@link SmartFieldDiffUtil} interface.
+   *
+   * @param businessObject the new business object
+   * @param changedFields  the mask of the changed fields, the bit {@code n} being set when the field {@code n} has changed
+   * @return {@code true} if the changed fields have been bound, {@code false} in order to perform a full update instead, which is the default
+   * @see ChangedFieldsPayload
+   */
+  public boolean onBusinessObjectFieldsUpdated(BusinessObjectType businessObject, long changedFields)
+  {
+    return false;
+  }
+
 }
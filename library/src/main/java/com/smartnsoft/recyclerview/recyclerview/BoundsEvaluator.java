@@ -0,0 +1,55 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.recyclerview;
+
+import android.animation.TypeEvaluator;
+import android.graphics.Rect;
+
+/**
+ * This TypeEvaluator is used to animate the hover cell back to its final location when the user lifts his finger, by computing its bounds on
+ * every frame of the settle animation. It always returns the same {@link Rect}, so that no object is allocated on every animation frame.
+ *
+ * @see SmartReorderRecyclerView
+ * @since 2026.10.16
+ */
+final class BoundsEvaluator
+    implements TypeEvaluator<Rect>
+{
+
+  private final Rect bounds = new Rect();
+
+  @Override
+  public Rect evaluate(float fraction, Rect startValue, Rect endValue)
+  {
+    bounds.set(interpolate(startValue.left, endValue.left, fraction),
+        interpolate(startValue.top, endValue.top, fraction), interpolate(startValue.right, endValue.right, fraction),
+        interpolate(startValue.bottom, endValue.bottom, fraction));
+    return bounds;
+  }
+
+  public int interpolate(int start, int end, float fraction)
+  {
+    return (int) (start + fraction * (end - start));
+  }
+
+}
@@ -0,0 +1,106 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.recyclerview;
+
+import android.graphics.Rect;
+
+/**
+ * The bounds of the hover cell of a {@link SmartReorderRecyclerView}, which are updated in place on every frame of the drag and of the settle
+ * animation, along with the area which has to be redrawn, i.e. the union of its former and current bounds.
+ *
+ * @see SmartReorderRecyclerView
+ * @since 2026.10.16
+ */
+final class HoverCellBounds
+{
+
+  private final Rect originalBounds = new Rect();
+
+  private final Rect currentBounds = new Rect();
+
+  private final Rect dirtyBounds = new Rect();
+
+  /**
+   * How far the hover cell draws beyond its bounds, because of its border or of its stacked outlines.
+   */
+  private int outset;
+
+  /**
+   * Sets both the original and the current bounds, when the drag starts.
+   */
+  void reset(int left, int top, int right, int bottom)
+  {
+    originalBounds.set(left, top, right, bottom);
+    currentBounds.set(originalBounds);
+  }
+
+  void setOutset(int outset)
+  {
+    this.outset = outset;
+  }
+
+  /**
+   * @return the bounds of the dragged view when the drag started
+   */
+  Rect getOriginalBounds()
+  {
+    return originalBounds;
+  }
+
+  Rect getCurrentBounds()
+  {
+    return currentBounds;
+  }
+
+  /**
+   * Moves the current bounds to the given location, without changing their size.
+   *
+   * @return the area to redraw, which is the same instance on every call
+   */
+  Rect offsetTo(int left, int top)
+  {
+    dirtyBounds.set(currentBounds);
+    currentBounds.offsetTo(left, top);
+    return computeDirtyBounds();
+  }
+
+  /**
+   * Sets the current bounds to the given ones.
+   *
+   * @return the area to redraw, which is the same instance on every call
+   */
+  Rect moveTo(Rect bounds)
+  {
+    dirtyBounds.set(currentBounds);
+    currentBounds.set(bounds);
+    return computeDirtyBounds();
+  }
+
+  private Rect computeDirtyBounds()
+  {
+    dirtyBounds.union(currentBounds);
+    dirtyBounds.inset(-outset, -outset);
+    return dirtyBounds;
+  }
+
+}
@@ -0,0 +1,149 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.recyclerview;
+
+import android.os.Parcelable;
+import android.support.v4.util.LruCache;
+import android.support.v7.widget.RecyclerView;
+import android.util.Log;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+
+import com.smartnsoft.recyclerview.adapter.SmartRecyclerAdapter;
+import com.smartnsoft.recyclerview.wrapper.CarouselRecyclerViewWrapper;
+import com.smartnsoft.recyclerview.wrapper.SmartRecyclerViewWrapper;
+
+/**
+ * A {@link RecyclerView.RecycledViewPool} which is shared by several {@link SmartRecyclerAdapter}, typically the horizontal carousels nested in a
+ * vertical list, so that the view holders created by a carousel are reused by the others.
+ * <p>
+ * It holds the view types registry shared by the adapters, in which a view type designates the first wrapper class registered with it, and
+ * the scroll states of the carousels, by wrapper identifier, of which only the most recently used ones are kept. The pool MUST be set on each {@link RecyclerView} which shares it, which the
+ * {@link CarouselRecyclerViewWrapper} does for the carousels.
+ *
+ * @see SmartRecyclerAdapter#setSmartRecycledViewPool(SmartRecycledViewPool)
+ * @see CarouselRecyclerViewWrapper
+ * @since 2026.10.16
+ */
+public class SmartRecycledViewPool
+    extends RecyclerView.RecycledViewPool
+{
+
+  public static final int DEFAULT_MAXIMUM_SCROLL_STATES = 100;
+
+  private static final String TAG = "SmartRecycledViewPool";
+
+  private final SparseArray<SmartRecyclerViewWrapper<?>> viewTypeAttributesDictionary = new SparseArray<>();
+
+  /**
+   * The view types registered with several wrapper classes, which have already been logged.
+   */
+  private final SparseBooleanArray conflictingViewTypes = new SparseBooleanArray();
+
+  private final LruCache<Long, Parcelable> scrollStates;
+
+  public SmartRecycledViewPool()
+  {
+    this(SmartRecycledViewPool.DEFAULT_MAXIMUM_SCROLL_STATES);
+  }
+
+  /**
+   * @param maximumScrollStates the number of carousel scroll states which are kept, the least recently used ones being dropped beyond
+   */
+  public SmartRecycledViewPool(int maximumScrollStates)
+  {
+    scrollStates = new LruCache<>(maximumScrollStates);
+  }
+
+  /**
+   * Registers the view type of the given wrapper, unless it is already registered. When the view type is already registered with another
+   * wrapper class, the first registration is kept and a warning is logged once for this view type, as the view holders of this type could not
+   * be shared.
+   *
+   * @param wrapper a wrapper of an adapter which uses the pool
+   */
+  public void registerViewType(SmartRecyclerViewWrapper<?> wrapper)
+  {
+    final int wrapperType = wrapper.getType();
+    final SmartRecyclerViewWrapper<?> registeredWrapper = viewTypeAttributesDictionary.get(wrapperType);
+    if (registeredWrapper == null)
+    {
+      viewTypeAttributesDictionary.append(wrapperType, wrapper);
+    }
+    else if (registeredWrapper.getClass() != wrapper.getClass() && conflictingViewTypes.get(wrapperType) == false)
+    {
+      conflictingViewTypes.put(wrapperType, true);
+      Log.w(TAG, "The view type " + wrapperType + " is used by both the '" + registeredWrapper.getClass().getName() + "' and the '" + wrapper.getClass().getName() + "' wrappers");
+    }
+  }
+
+  /**
+   * @param viewType a view type
+   * @return a wrapper registered for this view type, or {@code null} if none has been registered yet
+   */
+  public SmartRecyclerViewWrapper<?> getViewTypeWrapper(int viewType)
+  {
+    return viewTypeAttributesDictionary.get(viewType);
+  }
+
+  /**
+   * @param wrapperId   the identifier of the wrapper of the carousel
+   * @param scrollState the state returned by the {@link RecyclerView.LayoutManager#onSaveInstanceState()} method of the carousel
+   */
+  public void saveScrollState(long wrapperId, Parcelable scrollState)
+  {
+    if (scrollState == null)
+    {
+      scrollStates.remove(wrapperId);
+    }
+    else
+    {
+      scrollStates.put(wrapperId, scrollState);
+    }
+  }
+
+  /**
+   * @param wrapperId the identifier of the wrapper of the carousel
+   * @return the scroll state saved for this carousel, or {@code null}
+   */
+  public Parcelable getScrollState(long wrapperId)
+  {
+    return scrollStates.get(wrapperId);
+  }
+
+  /**
+   * Drops the scroll state of a carousel, typically when its wrapper is removed from the list.
+   *
+   * @param wrapperId the identifier of the wrapper of the carousel
+   */
+  public void removeScrollState(long wrapperId)
+  {
+    scrollStates.remove(wrapperId);
+  }
+
+  public void clearScrollStates()
+  {
+    scrollStates.evictAll();
+  }
+
+}
@@ -38,22 +38,29 @@ package com.smartnsoft.recyclerview.recyclerview;
  * limitations under the License.
  */
 
+import java.util.Arrays;
+
 import android.animation.Animator;
 import android.animation.AnimatorListenerAdapter;
-import android.animation.ObjectAnimator;
-import android.animation.TypeEvaluator;
 import android.animation.ValueAnimator;
 import android.annotation.TargetApi;
 import android.content.Context;
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
+import android.graphics.ColorFilter;
 import android.graphics.Paint;
+import android.graphics.PixelFormat;
 import android.graphics.Rect;
 import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
 import android.os.Build;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
+import android.support.v4.view.ViewCompat;
+import android.support.v7.widget.GridLayoutManager;
 import android.support.v7.widget.RecyclerView;
+import android.support.v7.widget.StaggeredGridLayoutManager;
 import android.util.AttributeSet;
 import android.util.DisplayMetrics;
 import android.view.GestureDetector;
@@ -61,6 +68,7 @@ import android.view.MotionEvent;
 import android.view.View;
 
 import com.smartnsoft.recyclerview.adapter.SmartRecyclerAdapter;
+import com.smartnsoft.recyclerview.util.BitmapPool;
 
 /**
  * A {@link android.support.v7.widget.RecyclerView} that provides reordering with drag&amp;drop. The Adapter has to be of type
@@ -105,6 +113,92 @@ public class SmartReorderRecyclerView
      */
     public abstract void swapElements(int fromIndex, int toIndex);
 
+    /**
+     * Moves the element at the given index to another index, the elements in between being shifted by one position. You don't have to notify
+     * the change either.
+     * <p>
+     * The default implementation performs a sequence of {@link #swapElements(int, int)} between neighbors: it should be overridden in order to
+     * move the element at once.
+     *
+     * @param fromIndex the index of the element
+     * @param toIndex   the index the element is moved to
+     */
+    public void moveElement(int fromIndex, int toIndex)
+    {
+      final int step = fromIndex < toIndex ? 1 : -1;
+      for (int index = fromIndex; index != toIndex; index += step)
+      {
+        swapElements(index, index + step);
+      }
+    }
+
+    /**
+     * Gathers the elements with the given identifiers into a contiguous block around the anchor element, in the order of the identifiers. The
+     * anchor keeps its place among the other elements: the elements listed before it end up right above it, and the ones listed after it right
+     * below it. You don't have to notify the change either.
+     * <p>
+     * The default implementation performs a sequence of {@link #moveElement(int, int)}: it should be overridden in order to move the elements
+     * at once.
+     *
+     * @param anchorId the identifier of the anchor element, which must belong to {@code itemIds}
+     * @param itemIds  the distinct identifiers of the elements to gather, in their final order
+     */
+    public void gatherElements(long anchorId, long[] itemIds)
+    {
+      int anchorRank = 0;
+      while (itemIds[anchorRank] != anchorId)
+      {
+        anchorRank++;
+      }
+
+      for (int rank = anchorRank + 1; rank < itemIds.length; rank++)
+      {
+        final int fromIndex = getItemPosition(itemIds[rank]);
+        final int anchorIndex = getItemPosition(anchorId);
+        final int toIndex = anchorIndex + rank - anchorRank - (fromIndex < anchorIndex ? 1 : 0);
+        moveElement(fromIndex, toIndex);
+      }
+      for (int rank = anchorRank - 1; rank >= 0; rank--)
+      {
+        final int fromIndex = getItemPosition(itemIds[rank]);
+        final int anchorIndex = getItemPosition(anchorId);
+        final int toIndex = anchorIndex - (anchorRank - rank) + (fromIndex < anchorIndex ? 0 : 1);
+        moveElement(fromIndex, toIndex);
+      }
+    }
+
+  }
+
+  /**
+   * Notified once per drag, when the dragged item is dropped, so that the new order can be persisted at once rather than on every move.
+   */
+  public interface OnReorderListener
+  {
+
+    /**
+     * @param itemId       the identifier of the item which has been dragged
+     * @param fromPosition the position of the item when the drag started
+     * @param toPosition   the position of the item when the drag ended, the items in between having been shifted by one position
+     */
+    void onReorderCommitted(long itemId, int fromPosition, int toPosition);
+
+  }
+
+  /**
+   * Notified once per drag of a group of items, when the group is dropped and its items have been gathered.
+   *
+   * @see #setDragGroup(long[])
+   */
+  public interface OnGroupReorderListener
+  {
+
+    /**
+     * @param itemIds       the identifiers of the items of the group, in their final order
+     * @param fromPositions the positions of these items when the drag started
+     * @param toPosition    the position of the first item of the group when the drag ended, the other ones following it
+     */
+    void onGroupReorderCommitted(long[] itemIds, int[] fromPositions, int toPosition);
+
   }
 
   private static final int INVALID_POINTER_ID = -1;
@@ -113,29 +207,117 @@ public class SmartReorderRecyclerView
 
   private static final int SMOOTH_SCROLL_AMOUNT_AT_EDGE = 100;
 
+  private static final int AUTO_SCROLL_EDGE_ZONE_SIZE_IN_DIP = 48;
+
+  /**
+   * The frame duration the scroll amount at the edge refers to, the actual scroll of a frame being proportional to the time elapsed since the
+   * previous one.
+   */
+  private static final long AUTO_SCROLL_FRAME_DURATION_MILLIS = 16;
+
   private static final int INVALID_ID = -1;
 
   /**
-   * This TypeEvaluator is used to animate the BitmapDrawable back to its final location when the user lifts his finger by modifying the
-   * BitmapDrawable's bounds.
+   * A drawable which draws a view live instead of a snapshot of it, followed by a border.
    */
-  private final static TypeEvaluator<Rect> sBoundEvaluator = new TypeEvaluator<Rect>()
+  private final class LiveViewDrawable
+      extends Drawable
   {
 
+    private final View view;
+
+    LiveViewDrawable(View view)
+    {
+      this.view = view;
+    }
+
     @Override
-    public Rect evaluate(float fraction, Rect startValue, Rect endValue)
+    public void draw(@NonNull Canvas canvas)
     {
-      return new Rect(interpolate(startValue.left, endValue.left, fraction),
-          interpolate(startValue.top, endValue.top, fraction), interpolate(startValue.right, endValue.right, fraction),
-          interpolate(startValue.bottom, endValue.bottom, fraction));
+      final Rect bounds = getBounds();
+      final int saveCount = canvas.save();
+      canvas.translate(bounds.left, bounds.top);
+      view.draw(canvas);
+      drawBorder(canvas, bounds.width(), bounds.height());
+      canvas.restoreToCount(saveCount);
     }
 
-    public int interpolate(int start, int end, float fraction)
+    @Override
+    public void setAlpha(int alpha)
     {
-      return (int) (start + fraction * (end - start));
     }
 
-  };
+    @Override
+    public void setColorFilter(ColorFilter colorFilter)
+    {
+    }
+
+    @Override
+    public int getOpacity()
+    {
+      return PixelFormat.TRANSLUCENT;
+    }
+
+  }
+
+  /**
+   * Draws outlines behind the hover cell, shifted by a few pixels, so that it looks like a stack of items.
+   */
+  private final class StackedHoverCellDrawable
+      extends Drawable
+  {
+
+    private static final int STACKED_OUTLINE_COUNT = 2;
+
+    private final Drawable hoverCell;
+
+    private final int outlineOffset;
+
+    StackedHoverCellDrawable(Drawable hoverCell, int outlineOffset)
+    {
+      this.hoverCell = hoverCell;
+      this.outlineOffset = outlineOffset;
+    }
+
+    @Override
+    public void draw(@NonNull Canvas canvas)
+    {
+      final Rect bounds = getBounds();
+      for (int index = STACKED_OUTLINE_COUNT; index > 0; index--)
+      {
+        final int saveCount = canvas.save();
+        canvas.translate(bounds.left + index * outlineOffset, bounds.top + index * outlineOffset);
+        drawBorder(canvas, bounds.width(), bounds.height());
+        canvas.restoreToCount(saveCount);
+      }
+      hoverCell.draw(canvas);
+    }
+
+    @Override
+    protected void onBoundsChange(Rect bounds)
+    {
+      hoverCell.setBounds(bounds);
+    }
+
+    @Override
+    public void setAlpha(int alpha)
+    {
+      hoverCell.setAlpha(alpha);
+    }
+
+    @Override
+    public void setColorFilter(ColorFilter colorFilter)
+    {
+      hoverCell.setColorFilter(colorFilter);
+    }
+
+    @Override
+    public int getOpacity()
+    {
+      return PixelFormat.TRANSLUCENT;
+    }
+
+  }
 
   private int activePointerId = INVALID_POINTER_ID;
 
@@ -147,11 +329,34 @@ public class SmartReorderRecyclerView
 
   private int totalOffsetY, totalOffsetX;
 
-  private BitmapDrawable hoverCell;
+  private Drawable hoverCell;
+
+  /**
+   * The snapshot drawn by the hover cell, which is given back to the {@link #hoverCellBitmapPool} when the drag ends.
+   */
+  private Bitmap hoverCellBitmap;
+
+  /**
+   * The view holder which is drawn live by the hover cell, and which must not be recycled as long as the drag lasts.
+   */
+  private ViewHolder liveHoverCellViewHolder;
+
+  private BitmapPool hoverCellBitmapPool = new BitmapPool();
+
+  /**
+   * Whether the {@link #hoverCellBitmapPool} is the own pool of the recyclerview, which it empties when it is detached, or a shared one.
+   */
+  private boolean isHoverCellBitmapPoolOwned = true;
+
+  private Bitmap.Config hoverCellBitmapConfig = Bitmap.Config.ARGB_8888;
+
+  private boolean isHoverCellLiveDrawingEnabled;
 
-  private Rect hoverCellOriginalBounds;
+  private final Canvas hoverCellCanvas = new Canvas();
 
-  private Rect hoverCellCurrentBounds;
+  private final Paint borderPaint = new Paint();
+
+  private final HoverCellBounds hoverCellBounds = new HoverCellBounds();
 
   private boolean cellIsMobile = false;
 
@@ -159,13 +364,75 @@ public class SmartReorderRecyclerView
 
   private int smoothScrollAmountAtEdge;
 
-  private boolean usWaitingForScrollFinish;
+  private int autoScrollEdgeZoneSize;
+
+  private boolean isAutoScrolling;
+
+  private long lastAutoScrollFrameTimeMillis;
+
+  private final Runnable autoScrollRunnable = new Runnable()
+  {
+    @Override
+    public void run()
+    {
+      onAutoScrollFrame();
+    }
+  };
+
+  private View draggedView;
 
   private int borderColor = -1;
 
-  private long aboveItemId = INVALID_ID;
+  private boolean isCellSwitchPending;
+
+  private final Runnable cellSwitchRunnable = new Runnable()
+  {
+    @Override
+    public void run()
+    {
+      isCellSwitchPending = false;
+      if (cellIsMobile)
+      {
+        handleCellSwitch();
+      }
+    }
+  };
+
+  private int mobileItemStartPosition = NO_POSITION;
+
+  private OnReorderListener onReorderListener;
+
+  private OnGroupReorderListener onGroupReorderListener;
+
+  private long[] dragGroupItemIds;
+
+  /**
+   * The identifiers of the items of the group being dragged, sorted by their positions when the drag started, or {@code null} when a single
+   * item is dragged.
+   */
+  private long[] draggedGroupItemIds;
+
+  private int[] draggedGroupStartPositions;
+
+  /**
+   * The view which the hover cell is animated to when the drag ends.
+   */
+  private View settlingView;
+
+  private final BoundsEvaluator boundsEvaluator = new BoundsEvaluator();
+
+  private final Rect hoverCellSettleStartBounds = new Rect();
+
+  private final Rect hoverCellSettleEndBounds = new Rect();
 
-  private long belowItemId = INVALID_ID;
+  private final ValueAnimator.AnimatorUpdateListener hoverCellAnimatorUpdateListener = new ValueAnimator.AnimatorUpdateListener()
+  {
+    @Override
+    public void onAnimationUpdate(ValueAnimator valueAnimator)
+    {
+      onSettleFrame(valueAnimator.getAnimatedFraction());
+    }
+  };
 
   public SmartReorderRecyclerView(Context context)
   {
@@ -212,8 +479,12 @@ public class SmartReorderRecyclerView
 
   public void init(Context context)
   {
+    borderPaint.setStyle(Paint.Style.STROKE);
+    borderPaint.setStrokeWidth(LINE_THICKNESS);
+
     final DisplayMetrics metrics = context.getResources().getDisplayMetrics();
     smoothScrollAmountAtEdge = (int) (SMOOTH_SCROLL_AMOUNT_AT_EDGE / metrics.density);
+    autoScrollEdgeZoneSize = (int) (AUTO_SCROLL_EDGE_ZONE_SIZE_IN_DIP * metrics.density);
 
     // detector for the long press in order to start the dragging
     final GestureDetector longPressGestureDetector = new GestureDetector(context,
@@ -235,11 +506,7 @@ public class SmartReorderRecyclerView
               return;
             }
 
-            mobileItemId = getChildItemId(selectedView);
-            hoverCell = getAndAddHoverView(selectedView);
-            updateNeighborViewsForID(mobileItemId);
-            selectedView.setVisibility(INVISIBLE);
-            cellIsMobile = true;
+            startDrag(selectedView);
           }
         });
 
@@ -296,65 +563,136 @@ public class SmartReorderRecyclerView
   }
 
   /**
-   * This method is in charge of determining if the hover cell is above/below or left/right the bounds of the recyclerview. If so, the recyclerview
-   * does an appropriate upward or downward smooth scroll so as to reveal new items.
+   * This method is in charge of determining if the hover cell is within the edge zone of the recyclerview, above/below or left/right. If so, the
+   * recyclerview starts scrolling on every frame so as to reveal new items, faster as the hover cell goes deeper into the edge zone, until the
+   * hover cell leaves the edge zone or the drag ends.
+   *
+   * @return {@code true} if the recyclerview is scrolling
    */
   public boolean handleMobileCellScroll(Rect r)
   {
-    if (getLayoutManager().canScrollVertically())
+    final boolean shouldAutoScroll = cellIsMobile && (getAutoScrollRatio(r, true) != 0f || getAutoScrollRatio(r, false) != 0f);
+    if (shouldAutoScroll && isAutoScrolling == false)
     {
-      int offset = computeVerticalScrollOffset();
-      int height = getHeight();
-      int extent = computeVerticalScrollExtent();
-      int range = computeVerticalScrollRange();
-      int hoverViewTop = r.top;
-      int hoverHeight = r.height();
+      isAutoScrolling = true;
+      lastAutoScrollFrameTimeMillis = SystemClock.uptimeMillis();
+      ViewCompat.postOnAnimation(this, autoScrollRunnable);
+    }
 
-      if (hoverViewTop <= 0 && offset > 0)
-      {
-        scrollBy(0, -smoothScrollAmountAtEdge);
+    return shouldAutoScroll;
+  }
 
-        return true;
-      }
+  public void setOnReorderListener(OnReorderListener onReorderListener)
+  {
+    this.onReorderListener = onReorderListener;
+  }
 
-      if (hoverViewTop + hoverHeight >= height && (offset + extent) < range)
-      {
-        scrollBy(0, smoothScrollAmountAtEdge);
+  public void setOnGroupReorderListener(OnGroupReorderListener onGroupReorderListener)
+  {
+    this.onGroupReorderListener = onGroupReorderListener;
+  }
 
-        return true;
+  /**
+   * Sets the group of items which are dragged together, typically the selected ones. When the user long presses one of them, the whole group is
+   * dragged as a single stacked hover cell, and when it is dropped, the items of the group are gathered around the pressed one with
+   * {@link ReorderAdapter#gatherElements(long, long[])}, keeping their order, and the {@link OnGroupReorderListener} is notified once.
+   *
+   * @param itemIds the distinct identifiers of the items of the group, or {@code null} in order to drag the items one by one
+   * @throws IllegalArgumentException if an identifier is listed twice
+   */
+  public void setDragGroup(long[] itemIds)
+  {
+    if (itemIds != null)
+    {
+      final long[] sortedItemIds = itemIds.clone();
+      Arrays.sort(sortedItemIds);
+      for (int index = 1; index < sortedItemIds.length; index++)
+      {
+        if (sortedItemIds[index] == sortedItemIds[index - 1])
+        {
+          throw new IllegalArgumentException("The identifier " + sortedItemIds[index] + " is listed twice in the drag group");
+        }
       }
     }
 
-    if (getLayoutManager().canScrollHorizontally())
-    {
-      int offset = computeHorizontalScrollOffset();
-      int width = getWidth();
-      int extent = computeHorizontalScrollExtent();
-      int range = computeHorizontalScrollRange();
-      int hoverViewLeft = r.left;
-      int hoverWidth = r.width();
+    dragGroupItemIds = itemIds == null ? null : itemIds.clone();
+  }
 
-      if (hoverViewLeft <= 0 && offset > 0)
-      {
-        scrollBy(-smoothScrollAmountAtEdge, 0);
+  public void setBorderColor(int colorRes)
+  {
+    borderColor = colorRes;
+  }
 
-        return true;
-      }
+  /**
+   * Sets the configuration of the hover cell snapshots, {@link Bitmap.Config#ARGB_8888} by default. {@link Bitmap.Config#RGB_565} halves
+   * their memory footprint, provided the items are opaque.
+   */
+  public void setHoverCellBitmapConfig(Bitmap.Config hoverCellBitmapConfig)
+  {
+    this.hoverCellBitmapConfig = hoverCellBitmapConfig;
+  }
 
-      if (hoverViewLeft + hoverWidth >= width && (offset + extent) < range)
-      {
-        scrollBy(smoothScrollAmountAtEdge, 0);
+  /**
+   * Sets the pool which the hover cell snapshots are taken from, which may be shared by several recyclerviews. Each recyclerview has its own
+   * pool by default, which it empties when it is detached from its window, whereas the given pool is left untouched and is up to the caller.
+   */
+  public void setHoverCellBitmapPool(@NonNull BitmapPool hoverCellBitmapPool)
+  {
+    if (isHoverCellBitmapPoolOwned)
+    {
+      this.hoverCellBitmapPool.clear();
+    }
+    this.hoverCellBitmapPool = hoverCellBitmapPool;
+    isHoverCellBitmapPoolOwned = false;
+  }
 
-        return true;
-      }
+  /**
+   * When enabled, the hover cell draws the dragged view itself instead of a snapshot of it, so that no bitmap is needed at all. The view
+   * holder of the dragged item is then kept from being recycled until the drag ends.
+   *
+   * @param enabled {@code true} in order to draw the hover cell live; defaults to {@code false}
+   */
+  public void setHoverCellLiveDrawingEnabled(boolean enabled)
+  {
+    isHoverCellLiveDrawingEnabled = enabled;
+  }
+
+  /**
+   * Creates the hover cell of the given view, which draws either a snapshot of the view or the view itself, depending on
+   * {@link #setHoverCellLiveDrawingEnabled(boolean)}.
+   *
+   * @param view The view which will be used to create the hover
+   * @return A drawable with the size of the view
+   */
+  protected Drawable createHoverCell(View view)
+  {
+    final Drawable hoverCell = createSingleHoverCell(view);
+    if (draggedGroupItemIds == null)
+    {
+      hoverCellBounds.setOutset(LINE_THICKNESS);
+      return hoverCell;
     }
 
-    return false;
+    final int outlineOffset = LINE_THICKNESS * 2;
+    hoverCellBounds.setOutset(StackedHoverCellDrawable.STACKED_OUTLINE_COUNT * outlineOffset + LINE_THICKNESS);
+    final StackedHoverCellDrawable drawable = new StackedHoverCellDrawable(hoverCell, outlineOffset);
+    drawable.setBounds(hoverCellBounds.getCurrentBounds());
+    return drawable;
   }
 
-  public void setBorderColor(int colorRes)
+  private Drawable createSingleHoverCell(View view)
   {
-    borderColor = colorRes;
+    if (isHoverCellLiveDrawingEnabled == false)
+    {
+      return getAndAddHoverView(view);
+    }
+
+    liveHoverCellViewHolder = getChildViewHolder(view);
+    liveHoverCellViewHolder.setIsRecyclable(false);
+
+    final LiveViewDrawable drawable = new LiveViewDrawable(view);
+    setHoverCellBounds(drawable, view);
+    return drawable;
   }
 
   /**
@@ -366,20 +704,10 @@ public class SmartReorderRecyclerView
    */
   protected BitmapDrawable getAndAddHoverView(View view)
   {
-    int width = view.getWidth();
-    int height = view.getHeight();
-    int top = view.getTop();
-    int left = view.getLeft();
-
-    final Bitmap bitmap = getBitmapWithBorder(view);
-
-    final BitmapDrawable drawable = new BitmapDrawable(getResources(), bitmap);
-
-    hoverCellOriginalBounds = new Rect(left, top, left + width, top + height);
-    hoverCellCurrentBounds = new Rect(hoverCellOriginalBounds);
-
-    drawable.setBounds(hoverCellCurrentBounds);
+    hoverCellBitmap = getBitmapWithBorder(view);
 
+    final BitmapDrawable drawable = new BitmapDrawable(getResources(), hoverCellBitmap);
+    setHoverCellBounds(drawable, view);
     return drawable;
   }
 
@@ -392,38 +720,140 @@ public class SmartReorderRecyclerView
   protected Bitmap getBitmapWithBorder(View view)
   {
     final Bitmap bitmap = getBitmapFromView(view);
-    final Canvas can = new Canvas(bitmap);
+    hoverCellCanvas.setBitmap(bitmap);
+    drawBorder(hoverCellCanvas, bitmap.getWidth(), bitmap.getHeight());
+    hoverCellCanvas.setBitmap(null);
 
-    final Rect rect = new Rect(0, 0, bitmap.getWidth(), bitmap.getHeight());
+    return bitmap;
+  }
 
-    final Paint paint = new Paint();
-    paint.setStyle(Paint.Style.STROKE);
-    paint.setStrokeWidth(LINE_THICKNESS);
-    if (borderColor != -1)
+  /**
+   * Returns a bitmap showing a screenshot of the view passed in, which is taken from the pool of the hover cell snapshots.
+   */
+  protected Bitmap getBitmapFromView(View v)
+  {
+    final Bitmap bitmap = hoverCellBitmapPool.acquire(v.getWidth(), v.getHeight(), hoverCellBitmapConfig);
+    hoverCellCanvas.setBitmap(bitmap);
+    v.draw(hoverCellCanvas);
+    hoverCellCanvas.setBitmap(null);
+
+    return bitmap;
+  }
+
+  @Override
+  protected void onDetachedFromWindow()
+  {
+    super.onDetachedFromWindow();
+    touchEventsCancelled();
+    if (isHoverCellBitmapPoolOwned)
     {
-      paint.setColor(borderColor);
+      // A shared pool may still serve the other recyclerviews
+      hoverCellBitmapPool.clear();
     }
-    else
+  }
+
+  private void setHoverCellBounds(Drawable drawable, View view)
+  {
+    final int left = view.getLeft();
+    final int top = view.getTop();
+
+    hoverCellBounds.reset(left, top, left + view.getWidth(), top + view.getHeight());
+
+    drawable.setBounds(hoverCellBounds.getCurrentBounds());
+  }
+
+  private void drawBorder(Canvas canvas, int width, int height)
+  {
+    borderPaint.setColor(borderColor != -1 ? borderColor : Color.BLACK);
+    canvas.drawRect(0, 0, width, height, borderPaint);
+  }
+
+  /**
+   * Releases the hover cell, giving its snapshot back to the pool, or letting its live view holder be recycled again.
+   */
+  private void releaseHoverCell()
+  {
+    hoverCell = null;
+    if (hoverCellBitmap != null)
+    {
+      hoverCellBitmapPool.release(hoverCellBitmap);
+      hoverCellBitmap = null;
+    }
+    if (liveHoverCellViewHolder != null)
     {
-      paint.setColor(Color.BLACK);
+      liveHoverCellViewHolder.setIsRecyclable(true);
+      liveHoverCellViewHolder = null;
     }
+  }
+
+  /**
+   * Starts dragging the given child, which the hover cell replaces.
+   */
+  void startDrag(View selectedView)
+  {
+    mobileItemId = getChildItemId(selectedView);
+    mobileItemStartPosition = getChildAdapterPosition(selectedView);
+    startGroupDrag();
+    hoverCell = createHoverCell(selectedView);
+    draggedView = selectedView;
+    selectedView.setVisibility(INVISIBLE);
+    cellIsMobile = true;
+  }
 
-    can.drawBitmap(bitmap, 0, 0, null);
-    can.drawRect(rect, paint);
+  /**
+   * Moves the hover cell along with the pointer, on every move event of the drag. It must not allocate any object.
+   */
+  void onDragFrame(int eventX, int eventY)
+  {
+    lastEventY = eventY;
+    lastEventX = eventX;
+    // NOTE: In a list, the items only move along its orientation
+    final int deltaY = canDragVertically() ? lastEventY - downY : 0;
+    final int deltaX = canDragHorizontally() ? lastEventX - downX : 0;
 
-    return bitmap;
+    if (cellIsMobile)
+    {
+      final Rect hoverCellOriginalBounds = hoverCellBounds.getOriginalBounds();
+      final Rect dirtyBounds = hoverCellBounds.offsetTo(hoverCellOriginalBounds.left + deltaX + totalOffsetX,
+          hoverCellOriginalBounds.top + deltaY + totalOffsetY);
+      if (hoverCell != null)
+      {
+        hoverCell.setBounds(hoverCellBounds.getCurrentBounds());
+      }
+      invalidate(dirtyBounds);
+
+      requestCellSwitch();
+
+      handleMobileCellScroll();
+    }
   }
 
   /**
-   * Returns a bitmap showing a screenshot of the view passed in.
+   * Sets the bounds the hover cell is animated between when the drag ends, from its current bounds to the location of the given view.
    */
-  protected Bitmap getBitmapFromView(View v)
+  void prepareSettle(View settleView)
   {
-    final Bitmap bitmap = Bitmap.createBitmap(v.getWidth(), v.getHeight(), Bitmap.Config.ARGB_8888);
-    final Canvas canvas = new Canvas(bitmap);
-    v.draw(canvas);
+    settlingView = settleView;
+    hoverCellSettleStartBounds.set(hoverCellBounds.getCurrentBounds());
+    hoverCellSettleEndBounds.set(hoverCellBounds.getCurrentBounds());
+    hoverCellSettleEndBounds.offsetTo(settleView.getLeft(), settleView.getTop());
+  }
 
-    return bitmap;
+  /**
+   * Moves the hover cell to its location at the given fraction of the settle animation, on every frame of the animation. It must not allocate
+   * any object.
+   */
+  void onSettleFrame(float fraction)
+  {
+    if (hoverCell != null)
+    {
+      // The settling view may still move, when the items of a dragged group are gathered, hence the end bounds are read on every frame
+      if (settlingView != null)
+      {
+        hoverCellSettleEndBounds.offsetTo(settlingView.getLeft(), settlingView.getTop());
+      }
+      moveHoverCellTo(boundsEvaluator.evaluate(fraction, hoverCellSettleStartBounds, hoverCellSettleEndBounds));
+    }
   }
 
   private void handleMotionEvent(MotionEvent event)
@@ -438,27 +868,7 @@ public class SmartReorderRecyclerView
         }
 
         int pointerIndex = event.findPointerIndex(activePointerId);
-
-        lastEventY = (int) event.getY(pointerIndex);
-        // lastEventX = (int) event.getX(pointerIndex);
-        final int deltaY = lastEventY - downY;
-        // NOTE: DeltaX = 0 because we don't want to be able to move item horizontally
-        final int deltaX = 0; // lastEventX - downX;
-
-        if (cellIsMobile)
-        {
-          hoverCellCurrentBounds.offsetTo(hoverCellOriginalBounds.left + deltaX + totalOffsetX,
-              hoverCellOriginalBounds.top + deltaY + totalOffsetY);
-          if (hoverCell != null)
-          {
-            hoverCell.setBounds(hoverCellCurrentBounds);
-          }
-          invalidate();
-
-          handleCellSwitch();
-
-          handleMobileCellScroll();
-        }
+        onDragFrame((int) event.getX(pointerIndex), (int) event.getY(pointerIndex));
         break;
       case MotionEvent.ACTION_UP:
         touchEventsEnded();
@@ -484,179 +894,400 @@ public class SmartReorderRecyclerView
   }
 
   /**
-   * This method determines whether the hover cell has been shifted far enough to invoke a cell swap. If so, then the respective cell swap candidate
-   * is determined and the data set is changed. Upon posting a notification of the data set change, a layout is invoked to place the cells in the
-   * right place.
+   * Schedules {@link #handleCellSwitch()} on the next animation frame, so that the drop target is looked up once per frame whatever the number of
+   * move events.
    */
-  private void handleCellSwitch()
+  private void requestCellSwitch()
   {
-    final ViewHolder mobileViewHolder = findViewHolderForItemId(mobileItemId);
-    final View mobileView = mobileViewHolder != null ? mobileViewHolder.itemView : null;
-    if (mobileView != null)
+    if (isCellSwitchPending == false)
     {
-      final ViewHolder belowViewHolder = findViewHolderForItemId(belowItemId);
-      final View belowView = belowViewHolder != null ? belowViewHolder.itemView : null;
-      final ViewHolder aboveViewHolder = findViewHolderForItemId(aboveItemId);
-      final View aboveView = aboveViewHolder != null ? aboveViewHolder.itemView : null;
+      isCellSwitchPending = true;
+      ViewCompat.postOnAnimation(this, cellSwitchRunnable);
+    }
+  }
 
-      final int deltaY = lastEventY - downY;
-      int deltaYTotal = hoverCellOriginalBounds.top + totalOffsetY + deltaY;
-      boolean isBelow = (belowView != null) && (deltaYTotal > belowView.getTop());
-      boolean isAbove = (aboveView != null) && (deltaYTotal < aboveView.getTop());
+  /**
+   * This method determines whether the center of the hover cell lies over another item, beyond the midpoint of that item in the direction of the
+   * drag. If so, the dragged item is moved to the position of that item, provided the span sizes allow it, and the data set is changed. Upon
+   * posting a notification of the data set change, a layout is invoked to place the cells in the right place.
+   * <p>
+   * The midpoint threshold prevents the dragged item from flipping back and forth when its neighbors have a different size: once moved, the
+   * hover cell center lies before the midpoint of the item which took its former place.
+   * <p>
+   * The drop target is found by a single pass over the visible children, which works in lists as well as in grids.
+   */
+  private void handleCellSwitch()
+  {
+    final int centerX = hoverCellBounds.getCurrentBounds().centerX();
+    final int centerY = hoverCellBounds.getCurrentBounds().centerY();
 
-      if (isBelow || isAbove)
+    View mobileView = null;
+    View targetView = null;
+    for (int index = getChildCount() - 1; index >= 0; index--)
+    {
+      final View child = getChildAt(index);
+      if (getChildItemId(child) == mobileItemId)
       {
-        if ((isBelow && belowView == null) || (isAbove && aboveView == null))
-        {
-          updateNeighborViewsForID(mobileItemId);
-
-          return;
-        }
-
-        final int childPosition = getChildAdapterPosition(isBelow ? belowView : aboveView);
-        final int originalItem = getChildAdapterPosition(mobileView);
-        swapElements(originalItem, childPosition);
-        updateNeighborViewsForID(mobileItemId);
+        mobileView = child;
       }
+      else if (targetView == null && centerX >= child.getLeft() && centerX < child.getRight() && centerY >= child.getTop()
+          && centerY < child.getBottom())
+      {
+        targetView = child;
+      }
+    }
+    if (mobileView == null || targetView == null)
+    {
+      return;
+    }
+
+    final int mobilePosition = getChildAdapterPosition(mobileView);
+    final int targetPosition = getChildAdapterPosition(targetView);
+    if (mobilePosition == NO_POSITION || targetPosition == NO_POSITION || mobilePosition == targetPosition
+        || hasCrossedMidpoint(mobileView, targetView, centerX, centerY) == false || canMoveAcrossSpans(mobilePosition, targetPosition) == false)
+    {
+      return;
     }
+
+    moveElement(mobilePosition, targetPosition);
   }
 
   /**
-   * Stores a reference to the views above and below the item currently corresponding to the hover cell. It is important to note that if this item is
-   * either at the top or bottom of the list, aboveItemId or belowItemId may be invalid.
+   * Indicates whether the hover cell center has gone beyond the midpoint of the target, in the direction going from the dragged item to the
+   * target: horizontally when both items lie on the same row, vertically otherwise.
    */
-  private void updateNeighborViewsForID(long itemID)
+  private boolean hasCrossedMidpoint(View mobileView, View targetView, int centerX, int centerY)
   {
-    final int position = getPositionForID(itemID);
-    final ReorderAdapter adapter = (ReorderAdapter) getAdapter();
-
-    // If the mobile item is the first item, set the above item to invalid ID
-    if (position - 1 >= 0)
+    final boolean isSameRow = mobileView.getTop() < targetView.getBottom() && targetView.getTop() < mobileView.getBottom();
+    final int mobileCenter;
+    final int targetCenter;
+    final int hoverCenter;
+    if (isSameRow)
     {
-      aboveItemId = adapter.getItemId(position - 1);
+      mobileCenter = (mobileView.getLeft() + mobileView.getRight()) / 2;
+      targetCenter = (targetView.getLeft() + targetView.getRight()) / 2;
+      hoverCenter = centerX;
     }
     else
     {
-      aboveItemId = INVALID_ID;
+      mobileCenter = (mobileView.getTop() + mobileView.getBottom()) / 2;
+      targetCenter = (targetView.getTop() + targetView.getBottom()) / 2;
+      hoverCenter = centerY;
     }
 
-    // If the mobile item is the last item, set the above item to invalid ID
-    if (position + 1 < getAdapter().getItemCount())
-    {
-      belowItemId = adapter.getItemId(position + 1);
-    }
-    else
+    return targetCenter > mobileCenter ? hoverCenter > targetCenter : hoverCenter < targetCenter;
+  }
+
+  /**
+   * In a {@link GridLayoutManager}, {@link ReorderAdapter#moveElement(int, int)} shifts every item between the two positions by one position, so
+   * the move is only allowed when all these items, as given by its {@link GridLayoutManager.SpanSizeLookup}, have the span size of the dragged
+   * item: the rows then keep their layout.
+   */
+  private boolean canMoveAcrossSpans(int fromPosition, int toPosition)
+  {
+    if (getLayoutManager() instanceof GridLayoutManager)
     {
-      belowItemId = INVALID_ID;
+      final GridLayoutManager.SpanSizeLookup spanSizeLookup = ((GridLayoutManager) getLayoutManager()).getSpanSizeLookup();
+      final int spanSize = spanSizeLookup.getSpanSize(fromPosition);
+      for (int position = Math.min(fromPosition, toPosition); position <= Math.max(fromPosition, toPosition); position++)
+      {
+        if (spanSizeLookup.getSpanSize(position) != spanSize)
+        {
+          return false;
+        }
+      }
     }
+
+    return true;
+  }
+
+  private boolean canDragHorizontally()
+  {
+    final LayoutManager layoutManager = getLayoutManager();
+    return isGridLayout(layoutManager) || layoutManager.canScrollHorizontally();
+  }
+
+  private boolean canDragVertically()
+  {
+    final LayoutManager layoutManager = getLayoutManager();
+    return isGridLayout(layoutManager) || layoutManager.canScrollVertically();
+  }
+
+  private boolean isGridLayout(LayoutManager layoutManager)
+  {
+    return (layoutManager instanceof GridLayoutManager && ((GridLayoutManager) layoutManager).getSpanCount() > 1)
+        || layoutManager instanceof StaggeredGridLayoutManager;
   }
 
   /**
-   * Swaps the the elements with the given indices.
+   * Moves the element at the given index to the other one.
    *
    * @param fromIndex the from-element index
    * @param toIndex   the to-element index
    */
-  private void swapElements(int fromIndex, int toIndex)
+  private void moveElement(int fromIndex, int toIndex)
   {
     final ReorderAdapter adapter = (ReorderAdapter) getAdapter();
-    adapter.swapElements(fromIndex, toIndex);
+    adapter.moveElement(fromIndex, toIndex);
   }
 
   /**
-   * Resets all the appropriate fields to a default state while also animating the hover cell back to its correct location.
+   * Determines whether the dragged item belongs to the drag group, in which case the whole group is dragged.
    */
-  private void touchEventsEnded()
+  private void startGroupDrag()
   {
-    final ViewHolder viewHolderForItemId = findViewHolderForItemId(mobileItemId);
-    if (viewHolderForItemId == null)
+    draggedGroupItemIds = null;
+    draggedGroupStartPositions = null;
+    if (dragGroupItemIds == null || dragGroupItemIds.length < 2)
     {
       return;
     }
 
-    final View mobileView = viewHolderForItemId.itemView;
-    if (cellIsMobile || usWaitingForScrollFinish)
+    boolean containsMobileItem = false;
+    for (final long itemId : dragGroupItemIds)
+    {
+      containsMobileItem |= itemId == mobileItemId;
+    }
+    if (containsMobileItem == false)
     {
-      cellIsMobile = false;
-      usWaitingForScrollFinish = false;
-      activePointerId = INVALID_POINTER_ID;
+      return;
+    }
 
-      // If the autoscroller has not completed scrolling, we need to wait for it to
-      // finish in order to determine the final location of where the hover cell
-      // should be animated to.
-      if (getScrollState() != SCROLL_STATE_IDLE)
+    // Sorts the items of the group by position, so that they keep their order once gathered
+    final ReorderAdapter adapter = (ReorderAdapter) getAdapter();
+    long[] sortKeys = new long[dragGroupItemIds.length];
+    int count = 0;
+    for (int index = 0; index < dragGroupItemIds.length; index++)
+    {
+      final int position = adapter.getItemPosition(dragGroupItemIds[index]);
+      if (position != NO_POSITION)
       {
-        usWaitingForScrollFinish = true;
-        return;
+        sortKeys[count++] = ((long) position << 32) | index;
       }
+    }
+    if (count < 2)
+    {
+      return;
+    }
+    sortKeys = Arrays.copyOf(sortKeys, count);
+    Arrays.sort(sortKeys);
 
-      hoverCellCurrentBounds.offsetTo(mobileView.getLeft(), mobileView.getTop());
+    draggedGroupItemIds = new long[count];
+    draggedGroupStartPositions = new int[count];
+    for (int index = 0; index < count; index++)
+    {
+      final int groupIndex = (int) sortKeys[index];
+      draggedGroupItemIds[index] = dragGroupItemIds[groupIndex];
+      draggedGroupStartPositions[index] = (int) (sortKeys[index] >> 32);
+    }
+  }
 
-      final ObjectAnimator hoverViewAnimator = ObjectAnimator.ofObject(hoverCell, "bounds", sBoundEvaluator,
-          hoverCellCurrentBounds);
-      hoverViewAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener()
-      {
-        @Override
-        public void onAnimationUpdate(ValueAnimator valueAnimator)
-        {
-          invalidate();
-        }
-      });
-      hoverViewAnimator.addListener(new AnimatorListenerAdapter()
-      {
-        @Override
-        public void onAnimationStart(Animator animation)
-        {
-          setEnabled(false);
-        }
+  /**
+   * Gathers the items of the dragged group, if any, and notifies the {@link OnGroupReorderListener} once. Otherwise, notifies the
+   * {@link OnReorderListener} of the move performed by the drag which ends, if the dragged item has actually moved.
+   */
+  private void commitReorder()
+  {
+    final int startPosition = mobileItemStartPosition;
+    mobileItemStartPosition = NO_POSITION;
 
-        @Override
-        public void onAnimationEnd(Animator animation)
-        {
-          mobileItemId = INVALID_ID;
-          mobileView.setVisibility(VISIBLE);
-          hoverCell = null;
-          setEnabled(true);
-          invalidate();
-        }
-      });
-      hoverViewAnimator.start();
+    if (draggedGroupItemIds != null)
+    {
+      final long[] itemIds = draggedGroupItemIds;
+      final int[] startPositions = draggedGroupStartPositions;
+      draggedGroupItemIds = null;
+      draggedGroupStartPositions = null;
+
+      final ReorderAdapter adapter = (ReorderAdapter) getAdapter();
+      adapter.gatherElements(mobileItemId, itemIds);
+      final int toPosition = adapter.getItemPosition(itemIds[0]);
+      if (onGroupReorderListener != null && toPosition != NO_POSITION)
+      {
+        onGroupReorderListener.onGroupReorderCommitted(itemIds, startPositions, toPosition);
+      }
+      return;
     }
-    else
+
+    // The dragged item may have been scrolled out or be waiting for a layout pass, hence its position is read from the adapter
+    final int endPosition = ((ReorderAdapter) getAdapter()).getItemPosition(mobileItemId);
+    if (onReorderListener != null && startPosition != NO_POSITION && endPosition != NO_POSITION && startPosition != endPosition)
     {
-      touchEventsCancelled();
+      onReorderListener.onReorderCommitted(mobileItemId, startPosition, endPosition);
     }
   }
 
   /**
-   * Resets all the appropriate fields to a default state.
+   * Commits the reorder, then animates the hover cell back to the location of the dragged item before releasing it.
+   * When the dragged item is no longer laid out, the hover cell is released right away.
    */
-  private void touchEventsCancelled()
+  private void touchEventsEnded()
   {
+    stopAutoScroll();
+    if (cellIsMobile == false)
+    {
+      touchEventsCancelled();
+      return;
+    }
+
+    cellIsMobile = false;
+    activePointerId = INVALID_POINTER_ID;
+    commitReorder();
+
+    // The autoscroller only scrolls by steps, but a nested scroll may still be settling: the hover cell is animated
+    // to where the dragged item is right now
+    stopScroll();
+
     final ViewHolder viewHolderForItemId = findViewHolderForItemId(mobileItemId);
     if (viewHolderForItemId == null)
     {
+      endDrag();
       return;
     }
 
-    final View mobileView = viewHolderForItemId.itemView;
+    final View settleView = viewHolderForItemId.itemView;
+    prepareSettle(settleView);
+
+    final ValueAnimator hoverViewAnimator = ValueAnimator.ofFloat(0f, 1f);
+    hoverViewAnimator.addUpdateListener(hoverCellAnimatorUpdateListener);
+    hoverViewAnimator.addListener(new AnimatorListenerAdapter()
+    {
+      @Override
+      public void onAnimationStart(Animator animation)
+      {
+        setEnabled(false);
+      }
+
+      @Override
+      public void onAnimationEnd(Animator animation)
+      {
+        settleView.setVisibility(VISIBLE);
+        endDrag();
+        setEnabled(true);
+      }
+    });
+    hoverViewAnimator.start();
+  }
+
+  /**
+   * Commits the reorder, if a drag is in progress, and resets all the appropriate fields to a default state.
+   */
+  private void touchEventsCancelled()
+  {
+    stopAutoScroll();
     if (cellIsMobile)
     {
-      mobileItemId = INVALID_ID;
-      mobileView.setVisibility(VISIBLE);
-      hoverCell = null;
-      invalidate();
+      commitReorder();
+      endDrag();
     }
     cellIsMobile = false;
     activePointerId = INVALID_POINTER_ID;
   }
 
+  /**
+   * Shows the dragged item again and releases the hover cell, whether or not the item is still attached.
+   */
+  private void endDrag()
+  {
+    if (draggedView != null)
+    {
+      draggedView.setVisibility(VISIBLE);
+      draggedView = null;
+    }
+    mobileItemId = INVALID_ID;
+    settlingView = null;
+    releaseHoverCell();
+    invalidate();
+  }
+
+  /**
+   * Moves the hover cell to the given bounds, and only redraws the area it leaves and the one it now covers.
+   */
+  private void moveHoverCellTo(Rect bounds)
+  {
+    final Rect dirtyBounds = hoverCellBounds.moveTo(bounds);
+    hoverCell.setBounds(hoverCellBounds.getCurrentBounds());
+    invalidate(dirtyBounds);
+  }
+
+  /**
+   * Scrolls the recyclerview by an amount proportional to the depth of the hover cell into the edge zone and to the time elapsed since the
+   * previous frame, and schedules the next frame as long as the hover cell remains in the edge zone.
+   */
+  private void onAutoScrollFrame()
+  {
+    if (isAutoScrolling == false)
+    {
+      return;
+    }
+
+    final float ratioX = cellIsMobile ? getAutoScrollRatio(hoverCellBounds.getCurrentBounds(), false) : 0f;
+    final float ratioY = cellIsMobile ? getAutoScrollRatio(hoverCellBounds.getCurrentBounds(), true) : 0f;
+    if (ratioX == 0f && ratioY == 0f)
+    {
+      stopAutoScroll();
+      return;
+    }
+
+    final long frameTimeMillis = SystemClock.uptimeMillis();
+    final float frameFactor = Math.min(4f,
+        (frameTimeMillis - lastAutoScrollFrameTimeMillis) / (float) AUTO_SCROLL_FRAME_DURATION_MILLIS);
+    lastAutoScrollFrameTimeMillis = frameTimeMillis;
+
+    scrollBy(Math.round(ratioX * smoothScrollAmountAtEdge * frameFactor),
+        Math.round(ratioY * smoothScrollAmountAtEdge * frameFactor));
+    requestCellSwitch();
+
+    ViewCompat.postOnAnimation(this, autoScrollRunnable);
+  }
+
+  private void stopAutoScroll()
+  {
+    isAutoScrolling = false;
+    removeCallbacks(autoScrollRunnable);
+    isCellSwitchPending = false;
+    removeCallbacks(cellSwitchRunnable);
+  }
+
+  /**
+   * Indicates how deep the given bounds are into the edge zone of the given axis, provided the recyclerview can scroll towards that edge.
+   *
+   * @return a ratio between -1 (deep into the top or left edge zone) and 1 (deep into the bottom or right edge zone), 0 meaning no scroll
+   */
+  private float getAutoScrollRatio(Rect bounds, boolean vertical)
+  {
+    final LayoutManager layoutManager = getLayoutManager();
+    if (layoutManager == null || (vertical ? layoutManager.canScrollVertically() : layoutManager.canScrollHorizontally()) == false)
+    {
+      return 0f;
+    }
+
+    final int start = vertical ? bounds.top : bounds.left;
+    final int end = vertical ? bounds.bottom : bounds.right;
+    final int size = vertical ? getHeight() : getWidth();
+    final float ratio;
+    if (start < autoScrollEdgeZoneSize)
+    {
+      ratio = -Math.min(1f, (autoScrollEdgeZoneSize - start) / (float) autoScrollEdgeZoneSize);
+    }
+    else if (end > size - autoScrollEdgeZoneSize)
+    {
+      ratio = Math.min(1f, (end - size + autoScrollEdgeZoneSize) / (float) autoScrollEdgeZoneSize);
+    }
+    else
+    {
+      return 0f;
+    }
+
+    final int direction = ratio < 0f ? -1 : 1;
+    return (vertical ? canScrollVertically(direction) : canScrollHorizontally(direction)) ? ratio : 0f;
+  }
+
   /**
    * Determines whether this recyclerview is in a scrolling state invoked by the fact that the hover cell is out of the bounds of the recyclerview;
    */
   private void handleMobileCellScroll()
   {
-    handleMobileCellScroll(hoverCellCurrentBounds);
+    handleMobileCellScroll(hoverCellBounds.getCurrentBounds());
   }
 
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import android.graphics.Bitmap;
+
+/**
+ * A small pool of mutable bitmaps, looked up by size and {@link Bitmap.Config}, so that a bitmap drawn again and again with the same
+ * dimensions, like the hover cell of a drag, is allocated only once.
+ * <p>
+ * It is not thread-safe and is meant to be used from the UI thread.
+ *
+ * @since 2026.10.16
+ */
+public final class BitmapPool
+{
+
+  private static final int DEFAULT_MAXIMUM_SIZE = 2;
+
+  private final int maximumSize;
+
+  private final List<Bitmap> bitmaps;
+
+  public BitmapPool()
+  {
+    this(BitmapPool.DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /**
+   * @param maximumSize the maximum number of bitmaps kept by the pool, the least recently released ones being evicted first
+   */
+  public BitmapPool(int maximumSize)
+  {
+    this.maximumSize = maximumSize;
+
+    bitmaps = new ArrayList<>(maximumSize);
+  }
+
+  /**
+   * Returns a transparent mutable bitmap with the given size and configuration, taken from the pool when one matches, and created otherwise.
+   * It should be given back with {@link #release(Bitmap)} once it is not used anymore.
+   */
+  public Bitmap acquire(int width, int height, Bitmap.Config config)
+  {
+    for (int index = bitmaps.size() - 1; index >= 0; index--)
+    {
+      final Bitmap bitmap = bitmaps.get(index);
+      if (bitmap.getWidth() == width && bitmap.getHeight() == height && bitmap.getConfig() == config)
+      {
+        bitmaps.remove(index);
+        bitmap.eraseColor(0);
+        return bitmap;
+      }
+    }
+
+    return Bitmap.createBitmap(width, height, config);
+  }
+
+  /**
+   * Gives a bitmap back to the pool. If the pool is full, its least recently released bitmap is recycled.
+   */
+  public void release(Bitmap bitmap)
+  {
+    if (bitmap == null || bitmap.isRecycled() || bitmap.isMutable() == false || bitmaps.contains(bitmap))
+    {
+      return;
+    }
+
+    if (bitmaps.size() >= maximumSize)
+    {
+      if (maximumSize <= 0)
+      {
+        bitmap.recycle();
+        return;
+      }
+      bitmaps.remove(0).recycle();
+    }
+    bitmaps.add(bitmap);
+  }
+
+  /**
+   * Recycles all the bitmaps of the pool.
+   */
+  public void clear()
+  {
+    for (final Bitmap bitmap : bitmaps)
+    {
+      bitmap.recycle();
+    }
+    bitmaps.clear();
+  }
+
+}
@@ -0,0 +1,224 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.util;
+
+import java.util.Arrays;
+
+/**
+ * An open addressing hash set of primitive {@code long} values, without any boxing.
+ * <p>
+ * It shares the design of {@link LongIntHashMap}: every operation is O(1) on average and nothing is allocated except when the table grows.
+ *
+ * @since 2026.10.16
+ */
+public final class LongHashSet
+{
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private static final float LOAD_FACTOR = 0.5f;
+
+  /**
+   * The value used to mark a free slot in the table: its presence is stored aside.
+   */
+  private static final long FREE_KEY = 0L;
+
+  private long[] keys;
+
+  private int mask;
+
+  private int size;
+
+  private int threshold;
+
+  private boolean hasFreeKey;
+
+  public LongHashSet()
+  {
+    this(LongHashSet.DEFAULT_CAPACITY);
+  }
+
+  public LongHashSet(int expectedSize)
+  {
+    allocate(LongIntHashMap.tableSizeFor(expectedSize));
+  }
+
+  public int size()
+  {
+    return size;
+  }
+
+  public boolean isEmpty()
+  {
+    return size == 0;
+  }
+
+  public boolean contains(long key)
+  {
+    if (key == LongHashSet.FREE_KEY)
+    {
+      return hasFreeKey;
+    }
+
+    return keys[indexOf(key)] != LongHashSet.FREE_KEY;
+  }
+
+  /**
+   * @return {@code true} if the value has been added, {@code false} if it was already present
+   */
+  public boolean add(long key)
+  {
+    if (key == LongHashSet.FREE_KEY)
+    {
+      if (hasFreeKey)
+      {
+        return false;
+      }
+      hasFreeKey = true;
+      size++;
+      return true;
+    }
+
+    final int index = indexOf(key);
+    if (keys[index] != LongHashSet.FREE_KEY)
+    {
+      return false;
+    }
+
+    keys[index] = key;
+    if (++size >= threshold)
+    {
+      rehash(keys.length * 2);
+    }
+    return true;
+  }
+
+  /**
+   * @return {@code true} if the value has been removed, {@code false} if it was not present
+   */
+  public boolean remove(long key)
+  {
+    if (key == LongHashSet.FREE_KEY)
+    {
+      if (hasFreeKey == false)
+      {
+        return false;
+      }
+      hasFreeKey = false;
+      size--;
+      return true;
+    }
+
+    int index = indexOf(key);
+    if (keys[index] == LongHashSet.FREE_KEY)
+    {
+      return false;
+    }
+
+    size--;
+
+    // Shifts back the following entries of the probe sequence, so that no tombstone is needed
+    int next = (index + 1) & mask;
+    while (keys[next] != LongHashSet.FREE_KEY)
+    {
+      final int ideal = LongIntHashMap.hash(keys[next]) & mask;
+      if (((next - ideal) & mask) >= ((next - index) & mask))
+      {
+        keys[index] = keys[next];
+        index = next;
+      }
+      next = (next + 1) & mask;
+    }
+    keys[index] = LongHashSet.FREE_KEY;
+
+    return true;
+  }
+
+  public void clear()
+  {
+    if (size > 0)
+    {
+      Arrays.fill(keys, LongHashSet.FREE_KEY);
+      hasFreeKey = false;
+      size = 0;
+    }
+  }
+
+  /**
+   * @return the values of the set, in no particular order
+   */
+  public long[] toArray()
+  {
+    final long[] array = new long[size];
+    int count = 0;
+    if (hasFreeKey)
+    {
+      array[count++] = LongHashSet.FREE_KEY;
+    }
+    for (final long key : keys)
+    {
+      if (key != LongHashSet.FREE_KEY)
+      {
+        array[count++] = key;
+      }
+    }
+
+    return array;
+  }
+
+  /**
+   * Returns the slot holding the value, or the free slot where it should be inserted.
+   */
+  private int indexOf(long key)
+  {
+    int index = LongIntHashMap.hash(key) & mask;
+    while (keys[index] != LongHashSet.FREE_KEY && keys[index] != key)
+    {
+      index = (index + 1) & mask;
+    }
+
+    return index;
+  }
+
+  private void allocate(int capacity)
+  {
+    keys = new long[capacity];
+    mask = capacity - 1;
+    threshold = (int) (capacity * LongHashSet.LOAD_FACTOR);
+  }
+
+  private void rehash(int capacity)
+  {
+    final long[] oldKeys = keys;
+    allocate(capacity);
+
+    for (final long key : oldKeys)
+    {
+      if (key != LongHashSet.FREE_KEY)
+      {
+        keys[indexOf(key)] = key;
+      }
+    }
+  }
+
+}
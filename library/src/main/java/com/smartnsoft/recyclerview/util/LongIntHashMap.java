@@ -0,0 +1,269 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.util;
+
+import java.util.Arrays;
+
+/**
+ * An open addressing hash map which maps primitive {@code long} keys to primitive {@code int} values, without any boxing.
+ * <p>
+ * It is designed for the identifier lookups of the adapters: every operation is O(1) on average and nothing is allocated
+ * except when the table grows.
+ *
+ * @since 2026.10.16
+ */
+public final class LongIntHashMap
+{
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private static final float LOAD_FACTOR = 0.5f;
+
+  /**
+   * The key used to mark a free slot in the table: its actual value is stored aside.
+   */
+  private static final long FREE_KEY = 0L;
+
+  private long[] keys;
+
+  private int[] values;
+
+  private int mask;
+
+  private int size;
+
+  private int threshold;
+
+  private boolean hasFreeKey;
+
+  private int freeKeyValue;
+
+  public LongIntHashMap()
+  {
+    this(LongIntHashMap.DEFAULT_CAPACITY);
+  }
+
+  public LongIntHashMap(int expectedSize)
+  {
+    allocate(LongIntHashMap.tableSizeFor(expectedSize));
+  }
+
+  public int size()
+  {
+    return size;
+  }
+
+  public boolean isEmpty()
+  {
+    return size == 0;
+  }
+
+  public boolean containsKey(long key)
+  {
+    if (key == LongIntHashMap.FREE_KEY)
+    {
+      return hasFreeKey;
+    }
+
+    return keys[indexOf(key)] != LongIntHashMap.FREE_KEY;
+  }
+
+  /**
+   * @param key                the key to look up
+   * @param valueIfKeyNotFound the value which is returned when the key is not in the map
+   * @return the value mapped to the key, or {@code valueIfKeyNotFound}
+   */
+  public int get(long key, int valueIfKeyNotFound)
+  {
+    if (key == LongIntHashMap.FREE_KEY)
+    {
+      return hasFreeKey ? freeKeyValue : valueIfKeyNotFound;
+    }
+
+    final int index = indexOf(key);
+    return keys[index] == LongIntHashMap.FREE_KEY ? valueIfKeyNotFound : values[index];
+  }
+
+  /**
+   * Maps the value to the key, replacing any previous mapping.
+   */
+  public void put(long key, int value)
+  {
+    if (key == LongIntHashMap.FREE_KEY)
+    {
+      if (hasFreeKey == false)
+      {
+        hasFreeKey = true;
+        size++;
+      }
+      freeKeyValue = value;
+      return;
+    }
+
+    final int index = indexOf(key);
+    if (keys[index] == LongIntHashMap.FREE_KEY)
+    {
+      keys[index] = key;
+      values[index] = value;
+      if (++size >= threshold)
+      {
+        rehash(keys.length * 2);
+      }
+    }
+    else
+    {
+      values[index] = value;
+    }
+  }
+
+  /**
+   * Maps the value to the key only if the key is not already in the map.
+   *
+   * @return {@code true} if the value has been mapped, {@code false} if the key was already present
+   */
+  public boolean putIfAbsent(long key, int value)
+  {
+    if (containsKey(key))
+    {
+      return false;
+    }
+
+    put(key, value);
+    return true;
+  }
+
+  /**
+   * Removes the mapping of the key, if any.
+   *
+   * @return the value which was mapped to the key, or {@code valueIfKeyNotFound}
+   */
+  public int remove(long key, int valueIfKeyNotFound)
+  {
+    if (key == LongIntHashMap.FREE_KEY)
+    {
+      if (hasFreeKey == false)
+      {
+        return valueIfKeyNotFound;
+      }
+      hasFreeKey = false;
+      size--;
+      return freeKeyValue;
+    }
+
+    int index = indexOf(key);
+    if (keys[index] == LongIntHashMap.FREE_KEY)
+    {
+      return valueIfKeyNotFound;
+    }
+
+    final int previousValue = values[index];
+    size--;
+
+    // Shifts back the following entries of the probe sequence, so that no tombstone is needed
+    int next = (index + 1) & mask;
+    while (keys[next] != LongIntHashMap.FREE_KEY)
+    {
+      final int ideal = LongIntHashMap.hash(keys[next]) & mask;
+      if (((next - ideal) & mask) >= ((next - index) & mask))
+      {
+        keys[index] = keys[next];
+        values[index] = values[next];
+        index = next;
+      }
+      next = (next + 1) & mask;
+    }
+    keys[index] = LongIntHashMap.FREE_KEY;
+
+    return previousValue;
+  }
+
+  public void clear()
+  {
+    if (size > 0)
+    {
+      Arrays.fill(keys, LongIntHashMap.FREE_KEY);
+      hasFreeKey = false;
+      size = 0;
+    }
+  }
+
+  /**
+   * Returns the slot holding the key, or the free slot where it should be inserted.
+   */
+  private int indexOf(long key)
+  {
+    int index = LongIntHashMap.hash(key) & mask;
+    while (keys[index] != LongIntHashMap.FREE_KEY && keys[index] != key)
+    {
+      index = (index + 1) & mask;
+    }
+
+    return index;
+  }
+
+  private void allocate(int capacity)
+  {
+    keys = new long[capacity];
+    values = new int[capacity];
+    mask = capacity - 1;
+    threshold = (int) (capacity * LongIntHashMap.LOAD_FACTOR);
+  }
+
+  private void rehash(int capacity)
+  {
+    final long[] oldKeys = keys;
+    final int[] oldValues = values;
+    allocate(capacity);
+
+    for (int index = 0; index < oldKeys.length; index++)
+    {
+      final long key = oldKeys[index];
+      if (key != LongIntHashMap.FREE_KEY)
+      {
+        final int newIndex = indexOf(key);
+        keys[newIndex] = key;
+        values[newIndex] = oldValues[index];
+      }
+    }
+  }
+
+  /**
+   * Shared with {@link LongHashSet}, so that both tables spread the keys and size their arrays the same way.
+   */
+  static int hash(long key)
+  {
+    // Spreads the bits of the key (murmur3 finalizer), because identifiers are often sequential
+    long hash = key;
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    return (int) hash;
+  }
+
+  static int tableSizeFor(int expectedSize)
+  {
+    final int minimumCapacity = (int) Math.min(1 << 30, Math.max(LongIntHashMap.DEFAULT_CAPACITY, (long) (expectedSize / LongIntHashMap.LOAD_FACTOR) + 1));
+    return Integer.highestOneBit(minimumCapacity - 1) << 1;
+  }
+
+}
@@ -0,0 +1,92 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.wrapper;
+
+import android.support.annotation.LayoutRes;
+
+import com.smartnsoft.recyclerview.adapter.DiffUtilSmartRecyclerAdapter;
+
+/**
+ * A {@link DiffUtilSpanRecyclerViewWrapper} which computes its {@link #getDiffUtilHashCode() diff hash code} only once, so that the
+ * {@link DiffUtilSmartRecyclerAdapter} diffs only compare cached values.
+ * <p>
+ * When the business object is mutable, {@link #invalidateDiffUtilHashCode()} has to be invoked whenever it is modified, before the next diff is
+ * requested.
+ *
+ * @param <BusinessObjectClass> the business object class which is represented by the current wrapper
+ * @see DiffUtilSpanRecyclerViewWrapper
+ * @since 2026.10.16
+ */
+public abstract class CachedDiffUtilSpanRecyclerViewWrapper<BusinessObjectClass>
+    extends DiffUtilSpanRecyclerViewWrapper<BusinessObjectClass>
+{
+
+  private final DiffUtilHashCodeCache diffUtilHashCodeCache = new DiffUtilHashCodeCache()
+  {
+    @Override
+    protected long compute()
+    {
+      return computeDiffUtilHashCode();
+    }
+  };
+
+  protected CachedDiffUtilSpanRecyclerViewWrapper(BusinessObjectClass businessObject, int type,
+      @LayoutRes int layoutResourceId, int spanSize)
+  {
+    super(businessObject, type, layoutResourceId, spanSize);
+  }
+
+  @Override
+  public final long getDiffUtilHashCode()
+  {
+    return diffUtilHashCodeCache.getDiffUtilHashCode();
+  }
+
+  /**
+   * Also changes when the cached {@link #getDiffUtilHashCode() diff hash code} changes, so that a business object modified in place is bound
+   * again once {@link #invalidateDiffUtilHashCode()} has been invoked.
+   */
+  @Override
+  public long getContentVersion()
+  {
+    return super.getContentVersion() * 31 + getDiffUtilHashCode();
+  }
+
+  /**
+   * Discards the cached diff hash code, which is computed again on the next {@link #getDiffUtilHashCode()} call. It may be invoked while an
+   * asynchronous diff is reading the hash code.
+   */
+  public void invalidateDiffUtilHashCode()
+  {
+    diffUtilHashCodeCache.invalidate();
+  }
+
+  /**
+   * Computes the diff hash code of the item, which is then cached until {@link #invalidateDiffUtilHashCode()} is invoked.
+   *
+   * @return the hashcode of the item
+   * @see SmartDiffUtil#getDiffUtilHashCode()
+   */
+  protected abstract long computeDiffUtilHashCode();
+
+}
@@ -0,0 +1,73 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.wrapper;
+
+import android.content.Context;
+import android.support.annotation.LayoutRes;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.smartnsoft.recyclerview.attributes.CarouselRecyclerAttributes;
+import com.smartnsoft.recyclerview.recyclerview.SmartRecycledViewPool;
+
+/**
+ * A wrapper which displays a horizontal carousel nested in a vertical list, all the carousels sharing the same {@link SmartRecycledViewPool}.
+ * Its {@link #extractNewViewAttributes(Context, View, Object)} method has to return a {@link CarouselRecyclerAttributes}, and its identifier
+ * has to be stable, as the scroll state of the carousel is saved by wrapper identifier.
+ *
+ * @param <BusinessObjectClass> the business object class which is represented by the current wrapper
+ * @see CarouselRecyclerAttributes
+ * @since 2026.10.16
+ */
+public abstract class CarouselRecyclerViewWrapper<BusinessObjectClass>
+    extends SmartRecyclerViewWrapper<BusinessObjectClass>
+{
+
+  private final SmartRecycledViewPool smartRecycledViewPool;
+
+  private final int initialPrefetchItemCount;
+
+  /**
+   * @param smartRecycledViewPool    the pool shared by all the carousels
+   * @param initialPrefetchItemCount the number of items of the carousel which are prefetched while it scrolls into the screen, typically the
+   *                                 number of items visible at once
+   */
+  protected CarouselRecyclerViewWrapper(BusinessObjectClass businessObject, int type, @LayoutRes int layoutResourceId,
+      SmartRecycledViewPool smartRecycledViewPool, int initialPrefetchItemCount)
+  {
+    super(businessObject, type, layoutResourceId);
+
+    this.smartRecycledViewPool = smartRecycledViewPool;
+    this.initialPrefetchItemCount = initialPrefetchItemCount;
+  }
+
+  @Override
+  public View getNewView(ViewGroup parent, Context context)
+  {
+    final View view = super.getNewView(parent, context);
+    ((CarouselRecyclerAttributes<BusinessObjectClass>) getViewAttributes(view)).setUpCarousel(smartRecycledViewPool, initialPrefetchItemCount);
+
+    return view;
+  }
+
+}
@@ -0,0 +1,80 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.wrapper;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The diff hash code cached by the {@link CachedDiffUtilSmartRecyclerViewWrapper} and the {@link CachedDiffUtilSpanRecyclerViewWrapper}, which
+ * may be read by the thread of an asynchronous diff while the main thread invalidates it.
+ * <p>
+ * Every invalidation increments a version, which is read before the hash code is computed, and the hash code is published along with that
+ * version as a single immutable entry: a hash code computed while the business object was being modified is never returned once the
+ * modification has been followed by an invalidation.
+ *
+ * @since 2026.10.16
+ */
+abstract class DiffUtilHashCodeCache
+{
+
+  private static final class Entry
+  {
+
+    private final long diffUtilHashCode;
+
+    private final int version;
+
+    private Entry(long diffUtilHashCode, int version)
+    {
+      this.diffUtilHashCode = diffUtilHashCode;
+      this.version = version;
+    }
+
+  }
+
+  private final AtomicInteger version = new AtomicInteger();
+
+  private volatile Entry entry;
+
+  final long getDiffUtilHashCode()
+  {
+    final int currentVersion = version.get();
+    final Entry cachedEntry = entry;
+    if (cachedEntry != null && cachedEntry.version == currentVersion)
+    {
+      return cachedEntry.diffUtilHashCode;
+    }
+
+    final long diffUtilHashCode = compute();
+    entry = new Entry(diffUtilHashCode, currentVersion);
+    return diffUtilHashCode;
+  }
+
+  final void invalidate()
+  {
+    version.incrementAndGet();
+  }
+
+  protected abstract long compute();
+
+}
@@ -0,0 +1,50 @@
+// The MIT License (MIT)
+//
+// Copyright (c) 2017 Smart&Soft
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+
+package com.smartnsoft.recyclerview.wrapper;
+
+import com.smartnsoft.recyclerview.adapter.ChangedFieldsPayload;
+import com.smartnsoft.recyclerview.adapter.DiffUtilSmartRecyclerAdapter.SmartDiffUtilCallback;
+import com.smartnsoft.recyclerview.attributes.SmartRecyclerAttributes;
+
+/**
+ * A {@link SmartDiffUtil} which also exposes a hash code per displayed field, so that the {@link SmartDiffUtilCallback} can tell which fields
+ * of a modified item have changed, and only those fields be bound again through
+ * {@link SmartRecyclerAttributes#onBusinessObjectFieldsUpdated(Object, long)}.
+ *
+ * @see ChangedFieldsPayload
+ * @since 2026.10.16
+ */
+public interface SmartFieldDiffUtil
+    extends SmartDiffUtil
+{
+
+  /**
+   * Invoked by the {@link SmartDiffUtilCallback#getChangePayload(int, int)} method on both the old and the new wrapper when their
+   * {@link #getDiffUtilHashCode()} differ, in order to compute the {@link ChangedFieldsPayload}.
+   *
+   * @return the hash codes of the fields of the item, always in the same order, with at most {@link ChangedFieldsPayload#MAXIMUM_FIELD_COUNT}
+   * fields
+   */
+  long[] getDiffUtilFieldHashCodes();
+
+}
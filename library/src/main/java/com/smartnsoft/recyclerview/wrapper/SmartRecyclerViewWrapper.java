@@ -50,6 +50,8 @@ public abstract class SmartRecyclerViewWrapper<BusinessObjectClass>
 
   private int type;
 
+  private int contentVersion;
+
   public SmartRecyclerViewWrapper(BusinessObjectClass businessObject, int type, @LayoutRes int layoutResourceId)
   {
     this.businessObject = businessObject;
@@ -67,6 +69,25 @@ public abstract class SmartRecyclerViewWrapper<BusinessObjectClass>
     return getId(businessObject);
   }
 
+  /**
+   * Part of the bind key which lets a {@link SmartRecyclerAttributes} skip binding the same content twice.
+   *
+   * @return a value which changes whenever the displayed content of the business object changes
+   * @see #notifyContentChanged()
+   */
+  public long getContentVersion()
+  {
+    return contentVersion;
+  }
+
+  /**
+   * Must be invoked when the business object is modified in place, so that it is bound again by the next {@code notifyItemChanged()} call.
+   */
+  public void notifyContentChanged()
+  {
+    contentVersion++;
+  }
+
   public final int getType()
   {
     return type;